@@ -0,0 +1,426 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// ArrayDoublyConnectedEdgeList.java - This file contains a structure-of-arrays
+// version of the DCEL. Nodes and half-edges are plain int indices into parallel
+// primitive arrays, so a polygon with millions of vertices costs a handful of
+// arrays instead of millions of Node and DCEL_Edge objects.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ArrayDoublyConnectedEdgeList {
+
+    public static final int OUTER_FACE = 0; //face id of the unbounded face
+    public static final int NONE = -1;      //null index
+
+    private double[] xs, ys;  //node coordinates
+    private int[] index;      //vertex label of every node (Vertex.index())
+    private int[] incident;   //one outgoing half-edge of every node
+    private int node_count;
+    private int[] ring_end;   //nodes of ring k are ring_end[k-1] .. ring_end[k]-1; ring 0 is the outer one
+
+    private int[] origin, next, prev, twin, face;
+    private int edge_count;
+
+    private int[] face_edge;  //representative half-edge of every face
+    private int face_count;
+    private boolean faces_dirty;
+
+    public ArrayDoublyConnectedEdgeList(ArrayList<Vertex> nodes) {
+      int n = nodes.size();
+      double[] x = new double[n];
+      double[] y = new double[n];
+      int[] labels = new int[n];
+      for(int i = 0; i < n; i++) {
+        x[i] = nodes.get(i).x();
+        y[i] = nodes.get(i).y();
+        labels[i] = nodes.get(i).index();
+      }
+      build(x, y, labels, new int[] {n});
+    }
+
+    public ArrayDoublyConnectedEdgeList(double[] xs, double[] ys, int n) {
+      this(xs, ys, new int[] {n});
+    }
+
+    //Polygon with holes. The outer ring comes first; hole k ends at node
+    //ring_end[k+1] of the input order, e.g. {10, 14, 18} is a 10 vertex outer
+    //ring with two quadrilateral holes.
+    public ArrayDoublyConnectedEdgeList(double[] xs, double[] ys, int[] ring_end) {
+      int n = ring_end[ring_end.length-1];
+      int[] labels = new int[n];
+      for(int i = 0; i < n; i++)
+        labels[i] = i + 1;
+      build(Arrays.copyOf(xs, n), Arrays.copyOf(ys, n), labels, Arrays.copyOf(ring_end, ring_end.length));
+    }
+
+    public ArrayDoublyConnectedEdgeList(ArrayList<Vertex> outer, ArrayList<ArrayList<Vertex>> holes) {
+      int[] ends = new int[holes.size() + 1];
+      int n = outer.size();
+      ends[0] = n;
+      for(int k = 0; k < holes.size(); k++) {
+        n += holes.get(k).size();
+        ends[k+1] = n;
+      }
+      double[] x = new double[n];
+      double[] y = new double[n];
+      int[] labels = new int[n];
+      int i = 0;
+      for(int k = -1; k < holes.size(); k++) {
+        for(Vertex v: (k < 0) ? outer : holes.get(k)) {
+          x[i] = v.x();
+          y[i] = v.y();
+          labels[i++] = v.index();
+        }
+      }
+      build(x, y, labels, ends);
+    }
+
+    //Reuses this mesh for another polygon, e.g. the next solve of a batch.
+    //Arrays are only reallocated when the new polygon does not fit, so repeated
+    //solves of similar size allocate nothing here.
+    public void reload(double[] xs, double[] ys, int n) {
+      if(this.xs.length < n) {
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.index = new int[n];
+      }
+      System.arraycopy(xs, 0, this.xs, 0, n);
+      System.arraycopy(ys, 0, this.ys, 0, n);
+      for(int i = 0; i < n; i++)
+        this.index[i] = i + 1;
+      build(this.xs, this.ys, this.index, new int[] {n});
+    }
+
+    //Links the boundary rings in one pass. Inner half-edge 2i leaves node i,
+    //its twin 2i+1 runs the other way on the outside. The outer ring is linked
+    //counter clockwise and holes clockwise, whatever the input order, so the
+    //interior is always left of the inner half-edges.
+    private void build(double[] x, double[] y, int[] labels, int[] ring_end) {
+      int n = ring_end[ring_end.length-1];
+      if(ring_end[0] < 3)
+        throw new IllegalArgumentException("A polygon needs at least 3 vertices, got " + ring_end[0]);
+
+      this.xs = x;
+      this.ys = y;
+      this.index = labels;
+      this.node_count = n;
+      this.ring_end = ring_end;
+      if(this.incident == null || this.incident.length < n)
+        this.incident = new int[n];
+
+      //a full triangulation adds n-3+2h diagonals on top of the n boundary edges
+      int capacity = 4*n + 4*ring_end.length;
+      if(this.origin == null || this.origin.length < capacity) {
+        this.origin = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.twin = new int[capacity];
+        this.face = new int[capacity];
+      }
+      this.edge_count = 2*n;
+
+      for(int k = 0, lo = 0; k < ring_end.length; lo = ring_end[k++]) {
+        int m = ring_end[k] - lo;
+        if(m < 3)
+          throw new IllegalArgumentException("Ring " + k + " needs at least 3 vertices, got " + m);
+        double area = 0;
+        for(int i = 0; i < m; i++) {
+          int j = (i+1 == m) ? 0 : i+1;
+          area += x[lo+i]*y[lo+j] - x[lo+j]*y[lo+i];
+        }
+        int step = ((area >= 0) == (k == 0)) ? 1 : m-1;
+
+        for(int i = 0; i < m; i++) {
+          int succ = lo + (i+step) % m;
+          int pred = lo + (i+m-step) % m;
+          int v = lo + i, in = 2*v, out = 2*v+1;
+
+          origin[in] = v;
+          next[in] = 2*succ;
+          prev[in] = 2*pred;
+          twin[in] = out;
+          face[in] = OUTER_FACE + 1;
+
+          origin[out] = succ;
+          next[out] = 2*pred+1;
+          prev[out] = 2*succ+1;
+          twin[out] = in;
+          face[out] = OUTER_FACE;
+
+          incident[v] = in;
+        }
+      }
+
+      if(this.face_edge == null || this.face_edge.length < Math.max(4, n))
+        this.face_edge = new int[Math.max(4, n)];
+      this.face_edge[OUTER_FACE] = 1;
+      this.face_edge[OUTER_FACE + 1] = 0;
+      this.face_count = 2;
+      this.faces_dirty = false;
+    }
+
+    public int nodeCount() {
+      return this.node_count;
+    }
+
+    //Number of boundary rings, the outer one and one per hole.
+    public int ringCount() {
+      return this.ring_end.length;
+    }
+
+    public int edgeCount() {
+      return this.edge_count;
+    }
+
+    public double x(int v) {
+      return this.xs[v];
+    }
+
+    public double y(int v) {
+      return this.ys[v];
+    }
+
+    public int index(int v) {
+      return this.index[v];
+    }
+
+    public int incidentEdge(int v) {
+      return this.incident[v];
+    }
+
+    public int origin(int e) {
+      return this.origin[e];
+    }
+
+    public int destination(int e) {
+      return this.origin[this.twin[e]];
+    }
+
+    public int next(int e) {
+      return this.next[e];
+    }
+
+    public int prev(int e) {
+      return this.prev[e];
+    }
+
+    public int twin(int e) {
+      return this.twin[e];
+    }
+
+    //Whether e runs along the outside of the outer ring or of a hole. Holds
+    //without relabelling: those are the odd boundary half-edges.
+    public boolean isOutside(int e) {
+      return e < 2*node_count && (e & 1) == 1;
+    }
+
+    public int face(int e) {
+      relabelFaces();
+      return this.face[e];
+    }
+
+    public int faceCount() {
+      relabelFaces();
+      return this.face_count;
+    }
+
+    public int faceEdge(int f) {
+      relabelFaces();
+      return this.face_edge[f];
+    }
+
+    //Number of nodes on the boundary cycle of face f.
+    public int faceSize(int f) {
+      int start = faceEdge(f), e = start, size = 0;
+      do {
+        size++;
+        e = next[e];
+      } while(e != start);
+      return size;
+    }
+
+    //Cursors with the same NodeConsumer callback as DoublyConnectedEdgeList.
+    //The consumer gets the vertex label, not the internal node index.
+    public void forEachFaceVertex(int f, NodeConsumer visitor) {
+      int start = faceEdge(f), e = start;
+      do {
+        int v = origin[e];
+        visitor.accept(index[v], xs[v], ys[v]);
+        e = next[e];
+      } while(e != start);
+    }
+
+    //Neighbours of v counter clockwise, diagonals included.
+    public void forEachNeighbor(int v, NodeConsumer visitor) {
+      int start = incident[v], e = start;
+      do {
+        int w = destination(e);
+        visitor.accept(index[w], xs[w], ys[w]);
+        e = twin[prev[e]];
+      } while(e != start);
+    }
+
+    //Outer boundary in counter clockwise order.
+    public void forEachBoundaryVertex(NodeConsumer visitor) {
+      int v = 0;
+      do {
+        visitor.accept(index[v], xs[v], ys[v]);
+        v = boundaryNext(v);
+      } while(v != 0);
+    }
+
+    //Neighbours of v along its boundary ring, with the interior on the left.
+    //They are read off the outside half-edges, which diagonals never touch,
+    //so these stay valid after connect().
+    public int boundaryNext(int v) {
+      return origin[2*v+1];
+    }
+
+    public int boundaryPrev(int v) {
+      return next[2*v+1] >> 1;
+    }
+
+    //Inserts the diagonal a-b into the face that both nodes share and returns
+    //the new half-edge leaving a. The face on the side of b->a gets a new id.
+    public int connect(int a, int b) {
+      int ea = wedgeEdge(a, xs[b], ys[b]);
+      int eb = wedgeEdge(b, xs[a], ys[a]);
+      int pa = prev[ea], pb = prev[eb];
+
+      ensureEdgeCapacity(edge_count + 2);
+      int ab = edge_count, ba = edge_count + 1;
+      edge_count += 2;
+
+      origin[ab] = a;
+      twin[ab] = ba;
+      next[ab] = eb;
+      prev[ab] = pa;
+
+      origin[ba] = b;
+      twin[ba] = ab;
+      next[ba] = ea;
+      prev[ba] = pb;
+
+      next[pa] = ab;
+      prev[eb] = ab;
+      next[pb] = ba;
+      prev[ea] = ba;
+
+      face[ab] = face[ba] = NONE;
+      faces_dirty = true;
+      return ab;
+    }
+
+    //Outgoing half-edge of v whose face contains the direction towards (x,y).
+    //The wedges around v tile the full circle, so exactly one of them matches.
+    private int wedgeEdge(int v, double x, double y) {
+      int start = incident[v], e = start;
+      do {
+        int w = destination(e);
+        int u = origin[prev[e]];
+        int toNext = Predicates.orientation(xs[v], ys[v], xs[w], ys[w], x, y);
+        int toPrev = Predicates.orientation(xs[v], ys[v], xs[u], ys[u], x, y);
+        boolean convex = Predicates.orientation(xs[u], ys[u], xs[v], ys[v], xs[w], ys[w]) > 0;
+        if(convex ? (toNext > 0 && toPrev < 0) : (toNext > 0 || toPrev < 0))
+          return e;
+        e = twin[prev[e]];
+      } while(e != start);
+      throw new IllegalStateException("No face around node " + index[v] + " contains the requested direction");
+    }
+
+    //Face ids are assigned in one O(E) pass the first time they are asked for
+    //after a batch of connect() calls, instead of relabelling on every split.
+    private void relabelFaces() {
+      if(!faces_dirty)
+        return;
+      Arrays.fill(face, 0, edge_count, NONE);
+
+      //the outside of the outer ring and of every hole
+      int e;
+      for(int k = 0, lo = 0; k < ring_end.length; lo = ring_end[k++]) {
+        int outer = 2*lo+1;
+        e = outer;
+        do {
+          face[e] = OUTER_FACE;
+          e = next[e];
+        } while(e != outer);
+      }
+
+      face_count = 1;
+      for(int start = 0; start < edge_count; start++) {
+        if(face[start] != NONE)
+          continue;
+        if(face_count == face_edge.length)
+          face_edge = Arrays.copyOf(face_edge, 2*face_count);
+        face_edge[face_count] = start;
+        e = start;
+        do {
+          face[e] = face_count;
+          e = next[e];
+        } while(e != start);
+        face_count++;
+      }
+      faces_dirty = false;
+    }
+
+    //Node indices sorted by the sweep order of above(). Bottom-up merge sort on
+    //plain int arrays, so no boxed keys are created.
+    public int[] sweepOrder() {
+      int n = node_count;
+      int[] order = new int[n];
+      int[] buffer = new int[n];
+      for(int i = 0; i < n; i++)
+        order[i] = i;
+
+      for(int width = 1; width < n; width *= 2) {
+        for(int lo = 0; lo < n; lo += 2*width) {
+          int mid = Math.min(lo + width, n), hi = Math.min(lo + 2*width, n);
+          int i = lo, j = mid, k = lo;
+          while(i < mid && j < hi)
+            buffer[k++] = above(order[j], order[i]) ? order[j++] : order[i++];
+          while(i < mid)
+            buffer[k++] = order[i++];
+          while(j < hi)
+            buffer[k++] = order[j++];
+        }
+        int[] t = order;
+        order = buffer;
+        buffer = t;
+      }
+      return order;
+    }
+
+    private void ensureEdgeCapacity(int capacity) {
+      if(capacity <= origin.length)
+        return;
+      int grown = Math.max(capacity, 2*origin.length);
+      origin = Arrays.copyOf(origin, grown);
+      next = Arrays.copyOf(next, grown);
+      prev = Arrays.copyOf(prev, grown);
+      twin = Arrays.copyOf(twin, grown);
+      face = Arrays.copyOf(face, grown);
+    }
+
+    //Turns every node a quarter about the origin: clockwise maps (x,y) to
+    //(y,-x). Exact in floating point, and the links do not depend on the
+    //coordinates, so turning back restores the mesh bit for bit.
+    public void quarterTurn(boolean clockwise) {
+      for(int i = 0; i < node_count; i++) {
+        double x = xs[i];
+        xs[i] = clockwise ? ys[i] : -ys[i];
+        ys[i] = clockwise ? -x : x;
+      }
+    }
+
+    //Exact sign of the turn a -> b -> c, see Predicates.orientation.
+    public int orientation(int a, int b, int c) {
+      return Predicates.orientation(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+    }
+
+    //Sweep order used by the partition and triangulation: higher y first,
+    //smaller x first on equal y.
+    public boolean above(int a, int b) {
+      return ys[a] > ys[b] || (ys[a] == ys[b] && xs[a] < xs[b]);
+    }
+}
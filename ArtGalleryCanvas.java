@@ -26,6 +26,7 @@ public class ArtGalleryCanvas extends JPanel {
     private ArrayList<Vertex> polygon;
     private ArrayList<Edge> trapezoids, partitionDiagonals;
     private ArrayList<DoublyConnectedEdgeList> triangulation;
+    private TriangleMesh mesh;
     private TreeMap<Integer, ArrayList<Integer>> dualGraphAdjacencyList;
     private TreeMap<Integer, Integer> nodeColor;
     private Integer minColor;
@@ -43,11 +44,26 @@ public class ArtGalleryCanvas extends JPanel {
         this.trapezoids = trapz;
         this.partitionDiagonals = diags;
         this.triangulation = tris;
+        this.mesh = null;
         this.dualGraphAdjacencyList = adjList;
         this.nodeColor = colors;
         this.minColor = guardColor;
     }
 
+    // Indexed mesh version: the dual graph is read from the mesh's neighbour
+    // links and colors[v] is the color of vertex position v, as
+    // ThreeColoring.threeColor(TriangleMesh) returns them.
+    public void setMeshData(ArrayList<Vertex> poly, ArrayList<Edge> trapz, ArrayList<Edge> diags, TriangleMesh mesh, int[] colors, Integer guardColor) {
+        setData(poly, trapz, diags, null, null, null, guardColor);
+        this.mesh = mesh;
+        if (colors != null) {
+            this.nodeColor = new TreeMap<>();
+            for (int v = 0; v < colors.length; v++) {
+                if (colors[v] >= 0) nodeColor.put(mesh.label(v), colors[v]);
+            }
+        }
+    }
+
     public void resetViewFlags() {
         showTrapezoids = false;
         showPartition = false;
@@ -139,18 +155,38 @@ public class ArtGalleryCanvas extends JPanel {
     private void drawTriangulation(Graphics2D g) {
         g.setColor(COLOR_TRIANGULATION);
         g.setStroke(new BasicStroke(1));
+        if (mesh != null) {
+            for (int t = 0; t < mesh.triangleCount(); t++) {
+                Polygon triPoly = new Polygon();
+                for (int k = 0; k < 3; k++) {
+                    int v = mesh.corner(t, k);
+                    triPoly.addPoint((int) mesh.x(v), (int) (-1 * mesh.y(v)));
+                }
+                g.drawPolygon(triPoly);
+            }
+            return;
+        }
         for (DoublyConnectedEdgeList triangleDCEL : triangulation) {
             Polygon triPoly = new Polygon();
-            DoublyConnectedEdgeList.DCEL_Edge current = triangleDCEL.rep_edge();
-            do {
-                triPoly.addPoint((int) current.origin().x(), (int) (-1 * current.origin().y()));
-                current = current.next();
-            } while (current != triangleDCEL.rep_edge());
+            triangleDCEL.forEachVertex((id, x, y) -> triPoly.addPoint((int) x, (int) (-1 * y)));
             g.drawPolygon(triPoly);
         }
     }
 
     private void drawDualGraph(Graphics2D g) {
+        if (mesh != null) {
+            g.setColor(COLOR_DUAL_GRAPH);
+            g.setStroke(new BasicStroke(2));
+            for (int t = 0; t < mesh.triangleCount(); t++) {
+                for (int k = 0; k < 3; k++) {
+                    int u = mesh.neighbor(t, k);
+                    if (t < u) {
+                        g.drawLine((int) mesh.centroidX(t), (int) (-1 * mesh.centroidY(t)), (int) mesh.centroidX(u), (int) (-1 * mesh.centroidY(u)));
+                    }
+                }
+            }
+            return;
+        }
         if (dualGraphAdjacencyList == null) return;
         
         TreeMap<Integer, Vertex> centroids = new TreeMap<>();
@@ -22,10 +22,10 @@ public class ArtGalleryGUI extends JFrame {
     private ArrayList<Edge> trapezoids;
     private ArrayList<Edge> partitionDiagonals;
     private ArrayList<DoublyConnectedEdgeList> monotonePolygons;
-    private ArrayList<DoublyConnectedEdgeList> triangulation;
-    private TreeMap<Integer, ArrayList<Integer>> dualGraphAdjacencyList;
-    private TreeMap<Integer, Integer> nodeColor;
+    private TriangleMesh mesh;
+    private int[] vertexColor;  //color of each mesh vertex position
     private Integer minColor;
+    private int colorConflicts;  //triangles the 3-coloring could not color properly
 
     public ArtGalleryGUI() {
         super("Art Gallery Problem - Step-by-Step Visualizer");
@@ -86,8 +86,8 @@ public class ArtGalleryGUI extends JFrame {
 
     private void resetToInitialState() {
         polygonVertices = null; mainDCEL = null; trapezoids = null;
-        partitionDiagonals = null; monotonePolygons = null; triangulation = null;
-        dualGraphAdjacencyList = null; nodeColor = null; minColor = null;
+        partitionDiagonals = null; monotonePolygons = null; mesh = null;
+        vertexColor = null; minColor = null;
         
         canvas.setData(null, null, null, null, null, null, null);
         canvas.resetViewFlags();
@@ -110,6 +110,7 @@ public class ArtGalleryGUI extends JFrame {
             
             resetToInitialState();
             polygonVertices = generateSimplePolygon(n, canvas.getWidth() - 100, canvas.getHeight() - 100);
+            PolygonValidator.validate(polygonVertices);
             mainDCEL = new DoublyConnectedEdgeList(polygonVertices);
 
             canvas.setData(polygonVertices, null, null, null, null, null, null);
@@ -121,6 +122,9 @@ public class ArtGalleryGUI extends JFrame {
 
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(this, "Please enter a valid integer (>= 3).", "Invalid Input", JOptionPane.ERROR_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            resetToInitialState();
+            JOptionPane.showMessageDialog(this, "The generated polygon is not simple: " + ex.getMessage(), "Invalid Polygon", JOptionPane.ERROR_MESSAGE);
         }
     }
 
@@ -149,9 +153,9 @@ public class ArtGalleryGUI extends JFrame {
 
     private void performStep4_Triangulate() {
         MonotoneTriangulation monTriangulation = new MonotoneTriangulation(monotonePolygons);
-        triangulation = monTriangulation.triangulateMonotonePolygon();
+        mesh = TriangleMesh.of(polygonVertices, monTriangulation.triangulateMonotonePolygon());
 
-        canvas.setData(polygonVertices, trapezoids, partitionDiagonals, triangulation, null, null, null);
+        canvas.setMeshData(polygonVertices, trapezoids, partitionDiagonals, mesh, null, null);
         canvas.setShowTriangulation(true);
         canvas.repaint();
         
@@ -160,11 +164,10 @@ public class ArtGalleryGUI extends JFrame {
     }
 
     private void performStep5_DualGraph() {
-        DualGraph dualGraph = new DualGraph(triangulation, polygonVertices);
-        dualGraph.construct();
-        dualGraphAdjacencyList = dualGraph.getAdjacencyList();
+        // The dual graph is the mesh's neighbour links, built on first use.
+        mesh.neighbors();
         
-        canvas.setData(polygonVertices, trapezoids, partitionDiagonals, triangulation, dualGraphAdjacencyList, null, null);
+        canvas.setMeshData(polygonVertices, trapezoids, partitionDiagonals, mesh, null, null);
         canvas.setShowDualGraph(true);
         canvas.repaint();
 
@@ -174,9 +177,10 @@ public class ArtGalleryGUI extends JFrame {
 
     private void performStep6_3Coloring() {
         ThreeColoring threeColoring = new ThreeColoring();
-        nodeColor = threeColoring.threeColor(triangulation, polygonVertices);
+        vertexColor = threeColoring.threeColor(mesh);
+        colorConflicts = threeColoring.conflicts();
 
-        canvas.setData(polygonVertices, trapezoids, partitionDiagonals, triangulation, dualGraphAdjacencyList, nodeColor, null);
+        canvas.setMeshData(polygonVertices, trapezoids, partitionDiagonals, mesh, vertexColor, null);
         canvas.setShowColoring(true);
         canvas.repaint();
 
@@ -186,12 +190,16 @@ public class ArtGalleryGUI extends JFrame {
 
     private void performStep7_FindGuards() {
         TreeMap<Integer, Integer> colorFreq = new TreeMap<>();
-        for (Integer k : nodeColor.keySet()) {
-            colorFreq.merge(nodeColor.get(k), 1, Integer::sum);
+        for (int color : vertexColor) {
+            if (color >= 0) colorFreq.merge(color, 1, Integer::sum);
         }
         minColor = colorFreq.entrySet().stream().min(java.util.Map.Entry.comparingByValue()).get().getKey();
+        if (colorConflicts > 0) {
+            JOptionPane.showMessageDialog(this, colorConflicts + " triangle(s) could not be 3-colored, so the guards of the smallest color class may not see the whole polygon. Use camera placement for this input.",
+                                          "Guards Not Guaranteed", JOptionPane.WARNING_MESSAGE);
+        }
         
-        canvas.setData(polygonVertices, trapezoids, partitionDiagonals, triangulation, dualGraphAdjacencyList, nodeColor, minColor);
+        canvas.setMeshData(polygonVertices, trapezoids, partitionDiagonals, mesh, vertexColor, minColor);
         canvas.setShowGuards(true);
         canvas.repaint();
         
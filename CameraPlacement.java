@@ -27,44 +27,100 @@ public class CameraPlacement {
 
     public static List<Camera> solve(ArrayList<DoublyConnectedEdgeList> triangulation, ArrayList<Vertex> vertices) {
         TreeMap<Integer, ArrayList<CircInterval>> intervalsByVertex = new TreeMap<>();
-        HashMap<Integer, Boolean> triangleCoverable = new HashMap<>();
+        LinkedHashMap<Integer, Boolean> triangleCoverable = new LinkedHashMap<>();
 
+        // Corners are read into reused primitive buffers instead of a Vertex per corner.
+        int[] ids = new int[3];
+        double[] xs = new double[3], ys = new double[3];
+        int[] corner = new int[1];
         for (DoublyConnectedEdgeList tri : triangulation) {
-            int triId = tri.id();
-            triangleCoverable.put(triId, false);
-
-            Vertex[] triVerts = {
-                new Vertex(tri.rep_edge().origin()),
-                new Vertex(tri.rep_edge().next().origin()),
-                new Vertex(tri.rep_edge().next().next().origin())
-            };
+            corner[0] = 0;
+            tri.forEachVertex((id, x, y) -> {
+                ids[corner[0]] = id;
+                xs[corner[0]] = x;
+                ys[corner[0]++] = y;
+            });
+            addIntervals(tri.id(), ids, xs, ys, intervalsByVertex, triangleCoverable);
+        }
 
-            for (int i = 0; i < 3; i++) {
-                Vertex v = triVerts[i];
-                Vertex v1 = triVerts[(i + 1) % 3];
-                Vertex v2 = triVerts[(i + 2) % 3];
+        reportUncoverableTriangles(triangleCoverable);
+        TreeMap<Integer, ArrayList<PairDoubleSet>> candidates = buildCandidates(intervalsByVertex);
+        return greedySetCover(triangleCoverable.keySet(), candidates, true);
+    }
 
-                double a1 = angleDeg(v, v1);
-                double a2 = angleDeg(v, v2);
-                double span = circularSpan(a1, a2);
+    // Same solve on an indexed mesh: triangles are named by their position in
+    // the mesh and cameras by the label of their vertex.
+    public static List<Camera> solve(TriangleMesh mesh) {
+        return solve(mesh, true);
+    }
 
-                if (span <= FOV_DEGREES + 1e-9) {
-                    double allowance = (FOV_DEGREES - span) / 2.0;
-                    double mid = norm360(a1 + circularDiff(a1, a2) / 2.0);
-                    
-                    double start = norm360(mid - allowance);
-                    double end = norm360(mid + allowance);
+    // With report false nothing is printed about triangles the cameras cannot
+    // cover; uncoverableCount() gives the number instead.
+    public static List<Camera> solve(TriangleMesh mesh, boolean report) {
+        TreeMap<Integer, ArrayList<CircInterval>> intervalsByVertex = new TreeMap<>();
+        LinkedHashMap<Integer, Boolean> triangleCoverable = new LinkedHashMap<>();
 
-                    CircInterval ci = new CircInterval(start, end, triId);
-                    intervalsByVertex.computeIfAbsent(v.index(), k -> new ArrayList<>()).add(ci);
-                    triangleCoverable.put(triId, true);
-                }
+        int[] ids = new int[3];
+        double[] xs = new double[3], ys = new double[3];
+        for (int t = 0; t < mesh.triangleCount(); t++) {
+            for (int i = 0; i < 3; i++) {
+                int v = mesh.corner(t, i);
+                ids[i] = mesh.label(v);
+                xs[i] = mesh.x(v);
+                ys[i] = mesh.y(v);
             }
+            addIntervals(t, ids, xs, ys, intervalsByVertex, triangleCoverable);
         }
-        
-        reportUncoverableTriangles(triangulation, triangleCoverable);
+
+        if (report) reportUncoverableTriangles(triangleCoverable);
         TreeMap<Integer, ArrayList<PairDoubleSet>> candidates = buildCandidates(intervalsByVertex);
-        return greedySetCover(triangulation, candidates);
+        return greedySetCover(triangleCoverable.keySet(), candidates, report);
+    }
+
+    // Records from which corners triangle triId can be covered and the
+    // orientations that do it.
+    private static void addIntervals(int triId, int[] ids, double[] xs, double[] ys, TreeMap<Integer, ArrayList<CircInterval>> intervalsByVertex, HashMap<Integer, Boolean> triangleCoverable) {
+        triangleCoverable.put(triId, false);
+        for (int i = 0; i < 3; i++) {
+            int j = (i + 1) % 3, k = (i + 2) % 3;
+
+            double a1 = angleDeg(xs[i], ys[i], xs[j], ys[j]);
+            double a2 = angleDeg(xs[i], ys[i], xs[k], ys[k]);
+            double span = circularSpan(a1, a2);
+
+            if (span <= FOV_DEGREES + 1e-9) {
+                double allowance = (FOV_DEGREES - span) / 2.0;
+                double mid = norm360(a1 + circularDiff(a1, a2) / 2.0);
+                
+                double start = norm360(mid - allowance);
+                double end = norm360(mid + allowance);
+
+                CircInterval ci = new CircInterval(start, end, triId);
+                intervalsByVertex.computeIfAbsent(ids[i], key -> new ArrayList<>()).add(ci);
+                triangleCoverable.put(triId, true);
+            }
+        }
+    }
+
+    // Whether some corner of triangle abc sees all of it within the FOV, the
+    // test addIntervals applies; the rest cannot enter the set cover.
+    public static boolean isCoverable(double ax, double ay, double bx, double by, double cx, double cy) {
+        return cornerSpan(ax, ay, bx, by, cx, cy) <= FOV_DEGREES + 1e-9
+            || cornerSpan(bx, by, cx, cy, ax, ay) <= FOV_DEGREES + 1e-9
+            || cornerSpan(cx, cy, ax, ay, bx, by) <= FOV_DEGREES + 1e-9;
+    }
+
+    public static int uncoverableCount(TriangleMesh mesh) {
+        int count = 0;
+        for (int t = 0; t < mesh.triangleCount(); t++) {
+            int a = mesh.corner(t, 0), b = mesh.corner(t, 1), c = mesh.corner(t, 2);
+            if (!isCoverable(mesh.x(a), mesh.y(a), mesh.x(b), mesh.y(b), mesh.x(c), mesh.y(c))) count++;
+        }
+        return count;
+    }
+
+    private static double cornerSpan(double vx, double vy, double px, double py, double qx, double qy) {
+        return circularSpan(angleDeg(vx, vy, px, py), angleDeg(vx, vy, qx, qy));
     }
 
     private static TreeMap<Integer, ArrayList<PairDoubleSet>> buildCandidates(TreeMap<Integer, ArrayList<CircInterval>> intervalsByVertex) {
@@ -116,9 +172,8 @@ public class CameraPlacement {
         return candidatesByVertex;
     }
 
-    private static List<Camera> greedySetCover(ArrayList<DoublyConnectedEdgeList> triangulation, TreeMap<Integer, ArrayList<PairDoubleSet>> candidates) {
-        HashSet<Integer> remainingTriangles = new HashSet<>();
-        for (DoublyConnectedEdgeList tri : triangulation) remainingTriangles.add(tri.id());
+    private static List<Camera> greedySetCover(Collection<Integer> triangleIds, TreeMap<Integer, ArrayList<PairDoubleSet>> candidates, boolean report) {
+        HashSet<Integer> remainingTriangles = new HashSet<>(triangleIds);
         List<Camera> solution = new ArrayList<>();
 
         while (!remainingTriangles.isEmpty()) {
@@ -138,7 +193,7 @@ public class CameraPlacement {
             }
             
             if (bestCoverCount == 0) {
-                System.out.println("Stopping greedy cover. Uncovered triangles remain: " + remainingTriangles);
+                if (report) System.out.println("Stopping greedy cover. Uncovered triangles remain: " + remainingTriangles);
                 break;
             }
             
@@ -148,11 +203,11 @@ public class CameraPlacement {
         return solution;
     }
     
-    private static void reportUncoverableTriangles(ArrayList<DoublyConnectedEdgeList> triangulation, HashMap<Integer, Boolean> coverableMap) {
+    private static void reportUncoverableTriangles(LinkedHashMap<Integer, Boolean> coverableMap) {
         ArrayList<Integer> uncovered = new ArrayList<>();
-        for (DoublyConnectedEdgeList t : triangulation) {
-            if (!coverableMap.getOrDefault(t.id(), false)) {
-                uncovered.add(t.id());
+        for (Map.Entry<Integer, Boolean> t : coverableMap.entrySet()) {
+            if (!t.getValue()) {
+                uncovered.add(t.getKey());
             }
         }
         if (!uncovered.isEmpty()) {
@@ -161,7 +216,7 @@ public class CameraPlacement {
         }
     }
 
-    private static double angleDeg(Vertex v, Vertex q) { double a = Math.toDegrees(Math.atan2(q.y() - v.y(), q.x() - v.x())); return a < 0 ? a + 360.0 : a; }
+    private static double angleDeg(double vx, double vy, double qx, double qy) { double a = Math.toDegrees(Math.atan2(qy - vy, qx - vx)); return a < 0 ? a + 360.0 : a; }
     private static double circularSpan(double a, double b) { double d = Math.abs(a - b); return d <= 180.0 ? d : 360.0 - d; }
     private static double circularDiff(double from, double to) { double d = to - from; if (d > 180) d -= 360; if (d < -180) d += 360; return d; }
     private static double norm360(double a) { double v = a % 360.0; return v < 0 ? v + 360.0 : v; }
@@ -13,6 +13,7 @@ public class CameraPlacementCanvas extends JPanel {
 
     private ArrayList<Vertex> polygon;
     private ArrayList<DoublyConnectedEdgeList> triangulation;
+    private TriangleMesh mesh;
     private List<CameraPlacement.Camera> cameras;
     private ArrayList<Edge> trapezoids;
     private ArrayList<Edge> partitions;
@@ -26,6 +27,7 @@ public class CameraPlacementCanvas extends JPanel {
     public void setData(ArrayList<Vertex> polygon, ArrayList<DoublyConnectedEdgeList> triangulation, List<CameraPlacement.Camera> cameras) {
         this.polygon = polygon;
         this.triangulation = triangulation;
+        this.mesh = null;
         this.cameras = cameras;
         this.trapezoids = null;
         this.partitions = null;
@@ -35,6 +37,13 @@ public class CameraPlacementCanvas extends JPanel {
         }
     }
 
+    // Indexed mesh version; the cameras name triangles by their position in
+    // the mesh, as CameraPlacement.solve(TriangleMesh) returns them.
+    public void setMeshData(ArrayList<Vertex> polygon, TriangleMesh mesh, List<CameraPlacement.Camera> cameras) {
+        setData(polygon, null, cameras);
+        this.mesh = mesh;
+    }
+
     public void setTrapezoids(ArrayList<Edge> trapezoids) { this.trapezoids = trapezoids; }
     public void setPartitions(ArrayList<Edge> partitions) { this.partitions = partitions; }
 
@@ -48,7 +57,7 @@ public class CameraPlacementCanvas extends JPanel {
 
         if (trapezoids != null) drawEdges(g2d, trapezoids, new Color(255, 165, 0, 100), new BasicStroke(1));
         if (partitions != null) drawEdges(g2d, partitions, new Color(0, 100, 255), new BasicStroke(2.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{10, 6}, 0));
-        if (triangulation != null) drawTriangulation(g2d);
+        if (triangulation != null || mesh != null) drawTriangulation(g2d);
         if (cameras != null) drawCoverage(g2d);
 
         drawPolygonOutline(g2d);
@@ -61,6 +70,10 @@ public class CameraPlacementCanvas extends JPanel {
     private void drawTriangulation(Graphics2D g) {
         g.setColor(new Color(80, 80, 80));
         g.setStroke(new BasicStroke(0.75f));
+        if (mesh != null) {
+            for (int t = 0; t < mesh.triangleCount(); t++) g.draw(createPathFromMesh(t));
+            return;
+        }
         for (DoublyConnectedEdgeList tri : triangulation) {
             Path2D.Double triPath = createPathFromDcel(tri);
             g.draw(triPath);
@@ -68,6 +81,16 @@ public class CameraPlacementCanvas extends JPanel {
     }
 
     private void drawCoverage(Graphics2D g) {
+        if (mesh != null) {
+            float hue = 0.0f;
+            for (CameraPlacement.Camera cam : cameras) {
+                Color color = Color.getHSBColor(hue, 0.7f, 0.9f);
+                g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 70));
+                for (int t : cam.trianglesCovered) g.fill(createPathFromMesh(t));
+                hue += 1.0f / Math.max(1, cameras.size());
+            }
+            return;
+        }
         if (triangulation == null || triangulation.isEmpty()) return;
         HashMap<Integer, DoublyConnectedEdgeList> triMap = new HashMap<>();
         for (DoublyConnectedEdgeList tri : triangulation) triMap.put(tri.id(), tri);
@@ -143,10 +166,19 @@ public class CameraPlacementCanvas extends JPanel {
 
     private Path2D.Double createPathFromDcel(DoublyConnectedEdgeList dcel) {
         Path2D.Double path = new Path2D.Double();
-        DoublyConnectedEdgeList.DCEL_Edge e = dcel.rep_edge();
-        path.moveTo(e.origin().x(), e.origin().y());
-        path.lineTo(e.next().origin().x(), e.next().origin().y());
-        path.lineTo(e.next().next().origin().x(), e.next().next().origin().y());
+        dcel.forEachVertex((id, x, y) -> {
+            if (path.getCurrentPoint() == null) path.moveTo(x, y);
+            else path.lineTo(x, y);
+        });
+        path.closePath();
+        return path;
+    }
+
+    private Path2D.Double createPathFromMesh(int t) {
+        Path2D.Double path = new Path2D.Double();
+        path.moveTo(mesh.x(mesh.corner(t, 0)), mesh.y(mesh.corner(t, 0)));
+        path.lineTo(mesh.x(mesh.corner(t, 1)), mesh.y(mesh.corner(t, 1)));
+        path.lineTo(mesh.x(mesh.corner(t, 2)), mesh.y(mesh.corner(t, 2)));
         path.closePath();
         return path;
     }
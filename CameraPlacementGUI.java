@@ -19,7 +19,7 @@ public class CameraPlacementGUI extends JFrame {
     private ArrayList<Vertex> polygon;
     private DoublyConnectedEdgeList mainDcel;
     private ArrayList<DoublyConnectedEdgeList> monotonePolygons;
-    private ArrayList<DoublyConnectedEdgeList> triangulation;
+    private TriangleMesh mesh;
     private ArrayList<Edge> trapezoids;
     private ArrayList<Edge> partitionDiagonals;
     private List<CameraPlacement.Camera> cameras;
@@ -75,7 +75,7 @@ public class CameraPlacementGUI extends JFrame {
     }
 
     private void resetToInitialState() {
-        polygon = null; mainDcel = null; triangulation = null;
+        polygon = null; mainDcel = null; mesh = null;
         trapezoids = null; partitionDiagonals = null; cameras = null;
         monotonePolygons = null;
         
@@ -98,6 +98,7 @@ public class CameraPlacementGUI extends JFrame {
             resetToInitialState();
             polygon = generateSimplePolygon(n, canvas.getWidth() - 100, canvas.getHeight() - 100);
             for(int i = 0; i < polygon.size(); i++) polygon.get(i).setIndex(i + 1);
+            PolygonValidator.validate(polygon);
             mainDcel = new DoublyConnectedEdgeList(polygon);
 
             canvas.setData(polygon, null, null);
@@ -109,6 +110,9 @@ public class CameraPlacementGUI extends JFrame {
 
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(this, "Please enter a valid integer >= 3.", "Invalid Input", JOptionPane.ERROR_MESSAGE);
+        } catch (IllegalArgumentException ex) {
+            resetToInitialState();
+            JOptionPane.showMessageDialog(this, "The generated polygon is not simple: " + ex.getMessage(), "Invalid Polygon", JOptionPane.ERROR_MESSAGE);
         }
     }
 
@@ -141,9 +145,9 @@ public class CameraPlacementGUI extends JFrame {
         }
         
         MonotoneTriangulation monTriangulation = new MonotoneTriangulation(monotonePolygons);
-        triangulation = monTriangulation.triangulateMonotonePolygon();
+        mesh = TriangleMesh.of(polygon, monTriangulation.triangulateMonotonePolygon());
 
-        canvas.setData(polygon, triangulation, null);
+        canvas.setMeshData(polygon, mesh, null);
         canvas.repaint();
         
         btnTriangulate.setEnabled(false);
@@ -151,11 +155,11 @@ public class CameraPlacementGUI extends JFrame {
     }
 
     private void performStep5_FindCameras() {
-        if (triangulation == null) return;
+        if (mesh == null) return;
         
-        cameras = CameraPlacement.solve(triangulation, polygon);
+        cameras = CameraPlacement.solve(mesh);
         
-        canvas.setData(polygon, triangulation, cameras);
+        canvas.setMeshData(polygon, mesh, cameras);
         canvas.repaint();
         
         btnFindCameras.setEnabled(false);
@@ -10,156 +10,130 @@ public class DoublyConnectedEdgeList {
 
     private DCEL_Edge rep_edge; //representative edge
     private int id;  //assigned number to DCEL
-    private static int DCEL_count = 0;  //number of DCELs
-    private static int edge_count = 0;  //number of edges
-    private static int node_count = 0;  //number of nodes
+    private IdContext ids;  //id counters of the solve this DCEL belongs to
+    private SpatialIndex<Node> index;  //coordinate lookups on this face, built on demand
+    private LinkedHashSet<DCEL_Edge> holes;  //edges of the unbridged holes, shared by every face split off this polygon
     private static final double eps = 1e-4; //epsilon for floating point comparisons
 
     public DoublyConnectedEdgeList() {
         this.rep_edge = null;
         this.id = 0;
+        this.ids = new IdContext();
     }
 
-    public DoublyConnectedEdgeList(DCEL_Edge rep_edge, int id) {
+    public DoublyConnectedEdgeList(DCEL_Edge rep_edge, int id, IdContext ids) {
       this.rep_edge = rep_edge;
       this.id = id;
+      this.ids = ids;
     }
 
-    public DoublyConnectedEdgeList(DCEL_Edge rep_edge) {
+    public DoublyConnectedEdgeList(DCEL_Edge rep_edge, IdContext ids) {
       this.rep_edge = rep_edge;
-      incrementDCELCount();
-      this.id = DCEL_count();
+      this.ids = ids;
+      this.id = ids.nextDCELId();
     }
 
+    //Starts a new solve: the polygon gets a fresh IdContext that every DCEL,
+    //edge and triangle derived from it shares.
     public DoublyConnectedEdgeList(ArrayList<Vertex> nodes) {
-      if(nodes.size() >= 3) {
-        incrementDCELCount();
-        this.id = DCEL_count();
-        Node one = new Node(nodes.get(0));
-        Node two = new Node(nodes.get(1));
-        Node three = new Node(nodes.get(2));
-
-        DCEL_Edge hone1 = new DCEL_Edge(DCEL_count());
-        DCEL_Edge hone2 = new DCEL_Edge(-1);
-        DCEL_Edge htwo1 = new DCEL_Edge(DCEL_count());
-        DCEL_Edge htwo2 = new DCEL_Edge(-1);
-        DCEL_Edge hthree1 = new DCEL_Edge(DCEL_count());
-        DCEL_Edge hthree2 = new DCEL_Edge(-1);
-
-        one.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(two.y()-one.y(),two.x()-one.x()),hone1));
-        two.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(three.y()-two.y(),three.x()-two.x()),htwo1));
-        three.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(one.y()-three.y(),one.x()-three.x()),hthree1));
-
-        hone1.setOrigin(one);
-        hone1.setNext(htwo1);
-        hone1.setPrev(hthree1);
-        hone1.setTwin(hone2);
-
-        hone2.setOrigin(two);
-        hone2.setNext(hthree2);
-        hone2.setPrev(hthree1);
-        hone2.setTwin(hone2);
-        hone2.setCounterClock(false);
-
-        htwo1.setOrigin(two);
-        htwo1.setNext(hthree1);
-        htwo1.setPrev(hone1);
-        htwo1.setTwin(htwo2);
-
-        htwo2.setOrigin(three);
-        htwo2.setNext(hone2);
-        htwo2.setPrev(hthree2);
-        htwo2.setTwin(htwo1);
-        htwo2.setCounterClock(false);
-
-        hthree1.setOrigin(three);
-        hthree1.setNext(hone1);
-        hthree1.setPrev(htwo1);
-        hthree1.setTwin(hthree2);
-
-        hthree2.setOrigin(one);
-        hthree2.setNext(htwo2);
-        hthree2.setPrev(hone2);
-        hthree2.setTwin(hthree1);
-        hthree2.setCounterClock(false);
-
-        this.setRepEdge(hthree1);
-        this.setID(id);
-
-        for(int i = 3; i < nodes.size(); i++) {
-          this.insert(new Node(nodes.get(i)));
-        }
+      this(nodes, new IdContext());
+    }
 
+    public DoublyConnectedEdgeList(ArrayList<Vertex> nodes, IdContext ids) {
+      this.ids = ids;
+      if(nodes.size() >= 3) {
+        build(nodes, ids.nextDCELId());
         return;
       }
       this.rep_edge = null;
       this.id = 0;
+    }
 
+    //Polygon with holes: the outer ring as above plus one ring per hole. Hole
+    //rings are linked clockwise whatever their input order, so the interior
+    //of the polygon lies left of their inner half-edges as on the outer ring.
+    public DoublyConnectedEdgeList(ArrayList<Vertex> outer, ArrayList<ArrayList<Vertex>> holes) {
+      this(outer, holes, new IdContext());
     }
 
-    public DoublyConnectedEdgeList(ArrayList<Vertex> nodes, int id) {
-      if(nodes.size() >= 3) {
-        this.id = id;
-        Node one = new Node(nodes.get(0));
-        Node two = new Node(nodes.get(1));
-        Node three = new Node(nodes.get(2));
-
-        DCEL_Edge hone1 = new DCEL_Edge(id);
-        DCEL_Edge hone2 = new DCEL_Edge(-1);
-        DCEL_Edge htwo1 = new DCEL_Edge(id);
-        DCEL_Edge htwo2 = new DCEL_Edge(-1);
-        DCEL_Edge hthree1 = new DCEL_Edge(id);
-        DCEL_Edge hthree2 = new DCEL_Edge(-1);
-
-        one.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(two.y()-one.y(),two.x()-one.x()),hone1));
-        two.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(three.y()-two.y(),three.x()-two.x()),htwo1));
-        three.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(one.y()-three.y(),one.x()-three.x()),hthree1));
-
-        hone1.setOrigin(one);
-        hone1.setNext(htwo1);
-        hone1.setPrev(hthree1);
-        hone1.setTwin(hone2);
-
-        hone2.setOrigin(two);
-        hone2.setNext(hthree2);
-        hone2.setPrev(hthree1);
-        hone2.setTwin(hone2);
-        hone2.setCounterClock(false);
-
-        htwo1.setOrigin(two);
-        htwo1.setNext(hthree1);
-        htwo1.setPrev(hone1);
-        htwo1.setTwin(htwo2);
-
-        htwo2.setOrigin(three);
-        htwo2.setNext(hone2);
-        htwo2.setPrev(hthree2);
-        htwo2.setTwin(htwo1);
-        htwo2.setCounterClock(false);
-
-        hthree1.setOrigin(three);
-        hthree1.setNext(hone1);
-        hthree1.setPrev(htwo1);
-        hthree1.setTwin(hthree2);
-
-        hthree2.setOrigin(one);
-        hthree2.setNext(htwo2);
-        hthree2.setPrev(hone2);
-        hthree2.setTwin(hthree1);
-        hthree2.setCounterClock(false);
-
-        this.setRepEdge(hthree1);
-        this.setID(id);
-
-        for(int i = 3; i < nodes.size(); i++) {
-          this.insert(new Node(nodes.get(i)));
+    public DoublyConnectedEdgeList(ArrayList<Vertex> outer, ArrayList<ArrayList<Vertex>> holes, IdContext ids) {
+      this(outer, ids);
+      for(ArrayList<Vertex> hole: holes) {
+        double area = 0;
+        for(int i = 0; i < hole.size(); i++) {
+          Vertex a = hole.get(i), b = hole.get((i+1) % hole.size());
+          area += a.x()*b.y() - b.x()*a.y();
         }
+        if(this.holes == null)
+          this.holes = new LinkedHashSet<DCEL_Edge>();
+        DCEL_Edge e = linkRing(hole, this.id, area > 0), start = e;
+        do {
+          this.holes.add(e);
+          e = e.next();
+        } while(e != start);
+      }
+    }
 
+    public DoublyConnectedEdgeList(ArrayList<Vertex> nodes, int id, IdContext ids) {
+      this.ids = ids;
+      if(nodes.size() >= 3) {
+        build(nodes, id);
         return;
       }
       this.rep_edge = null;
       this.id = 0;
+    }
+
+    //Links the whole boundary in one O(n) pass. Inner half-edge i runs from
+    //node i to node i+1 and its twin runs back along the outer face. Nodes only
+    //remember their boundary edge here; the angular incident edge set is built
+    //the first time something asks for it. Records come from the IdContext, so
+    //a SolveArena can hand out recycled ones.
+    private void build(ArrayList<Vertex> nodes, int id) {
+        this.id = id;
+        this.setRepEdge(linkRing(nodes, id, false));
+    }
 
+    //Links one ring, in reverse input order if asked, and returns its last
+    //inner half-edge.
+    private DCEL_Edge linkRing(ArrayList<Vertex> nodes, int id, boolean reversed) {
+        int n = nodes.size();
+        Node first = null;
+        DCEL_Edge firstInner = null, firstOuter = null;
+        DCEL_Edge lastInner = null, lastOuter = null;
+        for(int i = 0; i < n; i++) {
+          Node node = this.ids.newNode(nodes.get(reversed ? n-1-i : i));
+          DCEL_Edge inner = this.ids.newEdge(id);
+          DCEL_Edge outer = this.ids.newEdge(-1);
+
+          inner.setOrigin(node);
+          inner.setTwin(outer);
+          outer.setTwin(inner);
+          outer.setCounterClock(false);
+          node.setBoundaryEdge(inner);
+
+          if(i == 0) {
+            first = node;
+            firstInner = inner;
+            firstOuter = outer;
+          }
+          else {
+            lastInner.setNext(inner);
+            inner.setPrev(lastInner);
+            lastOuter.setOrigin(node);
+            lastOuter.setPrev(outer);
+            outer.setNext(lastOuter);
+          }
+          lastInner = inner;
+          lastOuter = outer;
+        }
+
+        lastInner.setNext(firstInner);
+        firstInner.setPrev(lastInner);
+        lastOuter.setOrigin(first);
+        lastOuter.setPrev(firstOuter);
+        firstOuter.setNext(lastOuter);
+        return lastInner;
     }
 
     public DCEL_Edge rep_edge() {
@@ -170,47 +144,67 @@ public class DoublyConnectedEdgeList {
       return this.id;
     }
 
-    public static int DCEL_count() {
-      return DCEL_count;
+    public IdContext ids() {
+      return this.ids;
     }
 
-    public static int edge_count() {
-      return edge_count;
+    //Reinitialises a pooled face for a new solve, see SolveArena.
+    void recycle(DCEL_Edge rep_edge, int id, IdContext ids) {
+      this.rep_edge = rep_edge;
+      this.id = id;
+      this.ids = ids;
+      this.index = null;
+      this.holes = null;
     }
 
-    public static int node_count() {
-      return node_count;
+    //One inner half-edge on each hole of the polygon that has not been bridged
+    //to the outer boundary yet. Faces split off the polygon share the list,
+    //since a hole only belongs to one of them once it is bridged.
+    public ArrayList<DCEL_Edge> holes() {
+      ArrayList<DCEL_Edge> reps = new ArrayList<DCEL_Edge>();
+      if(this.holes == null)
+        return reps;
+      HashSet<DCEL_Edge> seen = new HashSet<DCEL_Edge>();
+      for(DCEL_Edge e: this.holes) {
+        if(seen.contains(e))
+          continue;
+        reps.add(e);
+        DCEL_Edge cur = e;
+        do {
+          seen.add(cur);
+          cur = cur.next();
+        } while(cur != e);
+      }
+      return reps;
     }
 
     public void setRepEdge(DCEL_Edge rep_edge) {
       this.rep_edge = rep_edge;
+      this.index = null;
     }
 
-    public void setID(int id) {
-      this.id = id;
-    }
-
-    public static void incrementDCELCount() {
-      DCEL_count++;
-    }
-
-    public static void incrementEdgeCount() {
-      edge_count++;
+    //Nodes and edges of this face hashed on their coordinates, so "which node
+    //is at (x,y)" and "which faces share this segment" skip the cycle walk.
+    //Any edit of the face drops it and the next call rebuilds it.
+    public SpatialIndex<Node> spatialIndex() {
+      if(this.index == null)
+        this.index = SpatialIndex.of(Collections.singletonList(this), eps);
+      return this.index;
     }
 
-    public static void incrementNodeCount() {
-      node_count++;
+    public void setID(int id) {
+      this.id = id;
     }
 
     public void insert(Node a) {
 
       DCEL_Edge head = this.rep_edge();
-      DCEL_Edge half_edge_1 = new DCEL_Edge(this.id);
-      DCEL_Edge half_edge_2 = new DCEL_Edge(-1);
+      DCEL_Edge half_edge_1 = this.ids.newEdge(this.id);
+      DCEL_Edge half_edge_2 = this.ids.newEdge(-1);
 
       Node b = head.origin(), c = head.next().origin();
 
-      b.removeIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(c.y()-b.y(),c.x()-b.x()),head));
+      b.removeIncidentEdge(head);
 
       half_edge_1.setOrigin(a);
       half_edge_1.setPrev(head);
@@ -234,62 +228,121 @@ public class DoublyConnectedEdgeList {
       head.twin().setOrigin(a);
       head.twin().setPrev(half_edge_2);
 
-      b.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(a.y()-b.y(),a.x()-b.x()),head));
-      a.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(c.y()-a.y(),c.x()-a.x()),half_edge_1));
+      b.insertIncidentEdge(head);
+      a.insertIncidentEdge(half_edge_1);
       this.setRepEdge(half_edge_1);
 
     }
 
     public void printInterior() {
       System.out.println("Printing interior cycle of dcel with id: "+Integer.toString(this.id));
+      System.out.print("Edge Cycle is: ");
       DCEL_Edge temp = this.rep_edge();
-      DCEL_Edge temp2 = temp;
-      System.out.print("Edge Cycle is: "+Integer.toString(temp2.origin.id())+"--("+Integer.toString(temp2.id())+")-->");
-      temp2 = temp2.next();
-      while(temp2.id() != temp.id()) {
-        System.out.print(Integer.toString(temp2.origin.id())+"--("+Integer.toString(temp2.id)+")-->");
-        temp2 = temp2.next();
-      }
-      System.out.println(Integer.toString(temp.origin.id()));
+      do {
+        System.out.print(Integer.toString(temp.origin().id())+"--("+Integer.toString(temp.id())+")-->");
+        temp = temp.next();
+      } while(temp != this.rep_edge());
+      System.out.println(Integer.toString(this.rep_edge().origin().id()));
     }
 
-    public Vertex getCentroid() {
-      DCEL_Edge current = this.rep_edge;
-      double sumX = 0;
-      double sumY = 0;
-      int count = 0;
+    //Visits the nodes of this face in cycle order, starting at the origin of
+    //the representative edge. The walk stops on edge identity.
+    public void forEachVertex(NodeConsumer visitor) {
+      DCEL_Edge start = this.rep_edge, e = start;
+      if(start == null)
+        return;
       do {
-          sumX += current.origin().x();
-          sumY += current.origin().y();
-          count++;
-          current = current.next();
-      } while (current != this.rep_edge);
-      
-      return new Vertex(sumX / count, sumY / count);
-  }
+        visitor.accept(e.origin.id, e.origin.x, e.origin.y);
+        e = e.next;
+      } while(e != start);
+    }
+
+    public int faceSize() {
+      DCEL_Edge start = this.rep_edge, e = start;
+      if(start == null)
+        return 0;
+      int size = 0;
+      do {
+        size++;
+        e = e.next;
+      } while(e != start);
+      return size;
+    }
+
+    public Vertex getCentroid() {
+      double[] sum = new double[2];
+      this.forEachVertex((nodeId, x, y) -> {
+        sum[0] += x;
+        sum[1] += y;
+      });
+      int count = this.faceSize();
+      return new Vertex(sum[0] / count, sum[1] / count);
+    }
 
     public void printVertices() {
       System.out.println("Printing vertices of dcel with id: "+Integer.toString(this.id));
-      DCEL_Edge temp = this.rep_edge();
-      DCEL_Edge temp2 = temp;
-      System.out.print("Vertices are: ("+Double.toString(temp2.origin().x())+","+Double.toString(temp2.origin().y())+")-->");
-      temp2 = temp2.next();
-      while(temp2.id() != temp.id()) {
-        System.out.print("("+Double.toString(temp2.origin().x())+","+Double.toString(temp2.origin().y())+")-->");
-        temp2 = temp2.next();
-      }
+      System.out.print("Vertices are: ");
+      this.forEachVertex((nodeId, x, y) -> System.out.print("("+Double.toString(x)+","+Double.toString(y)+")-->"));
       System.out.println("End");
     }
 
-    public DoublyConnectedEdgeList connect(Node a, Node b, DCEL_Edge e_prev, DCEL_Edge e_next) {
-      DCEL_Edge e_a_b = new DCEL_Edge(this.id());
-      DCEL_Edge e_b_a = new DCEL_Edge(this.id());
+    //Splits this face along the diagonal a-b. Both ends look up the edge to
+    //hook onto in their rotation, so a and b may already carry diagonals.
+    public DoublyConnectedEdgeList connect(Node a, Node b) {
+      DCEL_Edge e_a_b = splice(a, b);
+      DCEL_Edge e_b_a = e_a_b.twin();
+
+      this.setRepEdge(e_a_b);
+      DoublyConnectedEdgeList newDCEL = this.ids.newFace(e_b_a);
+      newDCEL.holes = this.holes;
+
+      e_b_a.setDCELID(newDCEL.id());
+      DCEL_Edge cur = e_b_a.next();
+
+      while(cur != e_b_a)
+      {
+        cur.setDCELID(newDCEL.id());
+        cur = cur.next();
+      }
+
+      a.insertIncidentEdge(e_a_b);
+      b.insertIncidentEdge(e_b_a);
+
+      return newDCEL;
+    }
+
+    //Joins a hole to the boundary of this face with the diagonal a-b, where a
+    //lies on the hole and b on this face. Unlike connect() nothing is split
+    //off: both boundaries become one cycle and the hole's edges take this
+    //face's id. Returns this face.
+    public DoublyConnectedEdgeList bridge(Node a, Node b) {
+      DCEL_Edge start = a.IncidentEdge(b), cur = start;
+      do {
+        cur.setDCELID(this.id);
+        if(this.holes != null)
+          this.holes.remove(cur);
+        cur = cur.next();
+      } while(cur != start);
+
+      DCEL_Edge e_a_b = splice(a, b);
+      this.setRepEdge(e_a_b);
+      a.insertIncidentEdge(e_a_b);
+      b.insertIncidentEdge(e_a_b.twin());
+      return this;
+    }
+
+    //Links a new pair of half-edges a-b, b-a into the cycles around a and b.
+    //Both carry this face's id; the caller fixes face ids and rotations.
+    private DCEL_Edge splice(Node a, Node b) {
+      DCEL_Edge e_a_b = this.ids.newEdge(this.id());
+      DCEL_Edge e_b_a = this.ids.newEdge(this.id());
+      DCEL_Edge e_next = a.IncidentEdge(b);
 
       e_a_b.setOrigin(a);
       e_b_a.setOrigin(b);
 
-      e_a_b.setNext(b.IncidentEdge(Math.atan2(a.y()-b.y(),a.x()-b.x())));
-      e_a_b.setPrev(e_prev);
+      e_a_b.setNext(b.IncidentEdge(a));
+      e_a_b.setPrev(e_next.prev());
 
       e_b_a.setNext(e_next);
       e_b_a.setPrev(e_a_b.next().prev());
@@ -306,52 +359,44 @@ public class DoublyConnectedEdgeList {
       e_b_a.next().setPrev(e_b_a);
       e_b_a.prev().setNext(e_b_a);
 
-      this.setRepEdge(e_a_b);
-      DoublyConnectedEdgeList newDCEL = new DoublyConnectedEdgeList(e_b_a);
-
-      e_b_a.setDCELID(newDCEL.id());
-      DCEL_Edge cur = e_b_a.next();
-
-      while(cur != e_b_a)
-      {
-        cur.setDCELID(newDCEL.id());
-        cur = cur.next();
-      }
-
-      a.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(b.y()-a.y(),b.x()-a.x()),e_a_b));
-      b.insertIncidentEdge(new SimplePair<Double, DCEL_Edge>(Math.atan2(a.y()-b.y(),a.x()-b.x()),e_b_a));
-
-      return newDCEL;
+      return e_a_b;
     }
+
     public static class Node {
         private double x,y;
-        private TreeSet<SimplePair<Double,DCEL_Edge> > IncidentEdges;
+        private DCEL_Edge[] rotation;  //outgoing edges sorted by direction, built on first use
+        private int degree;  //number of edges in rotation
+        private DCEL_Edge boundary_edge;  //outgoing boundary edge set by the bulk builder
         private int id;
 
-        public Node() {
-          DoublyConnectedEdgeList.incrementNodeCount();
-          this.id = DoublyConnectedEdgeList.node_count();
-          this.IncidentEdges = new TreeSet<SimplePair<Double,DCEL_Edge> >(new IncidentEdgeComparator());
+        public Node(IdContext ids) {
+          this.id = ids.nextNodeId();
         }
 
-        public Node(double x, double y) {
-          DoublyConnectedEdgeList.incrementNodeCount();
-          this.id = DoublyConnectedEdgeList.node_count();
+        public Node(double x, double y, IdContext ids) {
+          this.id = ids.nextNodeId();
           this.x = x;
           this.y = y;
-          this.IncidentEdges = new TreeSet<SimplePair<Double,DCEL_Edge> >(new IncidentEdgeComparator());
         }
 
         public Node(int id) {
           this.id = id;
-          this.IncidentEdges = new TreeSet<SimplePair<Double,DCEL_Edge> >(new IncidentEdgeComparator());
         }
 
         public Node(Vertex v) {
           this.id = v.index();
           this.x = v.x();
           this.y = v.y();
-          this.IncidentEdges = new TreeSet<SimplePair<Double,DCEL_Edge> >(new IncidentEdgeComparator());
+        }
+
+        //Reinitialises a pooled node for a new solve, see SolveArena.
+        void recycle(Vertex v) {
+          this.id = v.index();
+          this.x = v.x();
+          this.y = v.y();
+          this.rotation = null;
+          this.degree = 0;
+          this.boundary_edge = null;
         }
 
         public double x() {
@@ -362,17 +407,25 @@ public class DoublyConnectedEdgeList {
           return this.y;
         }
 
+        //Outgoing edge with the largest direction angle
         public DCEL_Edge IncidentEdge() {
-          return this.IncidentEdge(3*Math.PI);
+          if(this.rotation == null)
+            return this.boundary_edge;
+          if(this.degree == 0)
+            return null;
+          return this.rotation[this.degree-1];
         }
 
-        public DCEL_Edge IncidentEdge(Double d) {
-          SimplePair<Double,DCEL_Edge> p = this.IncidentEdges.lower(new SimplePair<Double,DCEL_Edge>(d,new DCEL_Edge()));
-          if(p == null && d <= 2*Math.PI)
+        //Outgoing edge that comes clockwise right before the direction towards
+        //the given node, wrapping around to the largest angle. This is the edge
+        //whose face contains that direction.
+        public DCEL_Edge IncidentEdge(Node towards) {
+          if(this.rotation == null)
+            return this.boundary_edge;
+          int k = this.rank(towards.x, towards.y);
+          if(k == 0)
             return this.IncidentEdge();
-          if(p == null)
-            return null;
-          return p.getValue();
+          return this.rotation[k-1];
         }
 
         public int id() {
@@ -383,24 +436,91 @@ public class DoublyConnectedEdgeList {
           this.id = id;
         }
 
-        public void insertIncidentEdge(SimplePair<Double,DCEL_Edge> p)
+        //Visits the neighbours of this node by turning around it on the twin
+        //links, counter clockwise from IncidentEdge(). Triangles whose twins
+        //are not linked stop the walk at the first missing twin.
+        public void forEachNeighbor(NodeConsumer visitor) {
+          DCEL_Edge start = this.IncidentEdge(), e = start;
+          while(e != null) {
+            Node to = e.next.origin;
+            visitor.accept(to.id, to.x, to.y);
+            if(e.prev == null || e.prev.twin == null)
+              return;
+            e = e.prev.twin;
+            if(e == start)
+              return;
+          }
+        }
+
+        //Turns the node a quarter about the origin, which is exact: clockwise
+        //maps (x,y) to (y,-x). A whole mesh is turned node by node, and only
+        //then sortRotation() puts each cached rotation back in angle order,
+        //since that order depends on the neighbours' positions as well.
+        void quarterTurn(boolean clockwise) {
+          double x = this.x;
+          this.x = clockwise ? this.y : -this.y;
+          this.y = clockwise ? -x : x;
+        }
+
+        void sortRotation() {
+          if(this.rotation == null)
+            return;
+          Arrays.sort(this.rotation, 0, this.degree, (a, b) -> {
+            Node p = a.next().origin(), q = b.next().origin();
+            return Predicates.compareDirection(this.x, this.y, p.x, p.y, q.x, q.y);
+          });
+        }
+
+        public void setBoundaryEdge(DCEL_Edge e) {
+          this.boundary_edge = e;
+        }
+
+        public void insertIncidentEdge(DCEL_Edge e)
         {
-          this.IncidentEdges.add(p);
+          this.ensureRotation();
+          if(this.degree == this.rotation.length)
+            this.rotation = Arrays.copyOf(this.rotation, 2*this.degree);
+          Node to = e.next().origin();
+          int k = this.rank(to.x, to.y);
+          System.arraycopy(this.rotation, k, this.rotation, k+1, this.degree-k);
+          this.rotation[k] = e;
+          this.degree++;
         }
 
-        public void removeIncidentEdge(SimplePair<Double,DCEL_Edge> p)
+        public void removeIncidentEdge(DCEL_Edge e)
         {
-          this.IncidentEdges.remove(p);
+          this.ensureRotation();
+          for(int i = 0; i < this.degree; i++) {
+            if(this.rotation[i] == e) {
+              System.arraycopy(this.rotation, i+1, this.rotation, i, this.degree-i-1);
+              this.rotation[--this.degree] = null;
+              return;
+            }
+          }
         }
 
-        public class IncidentEdgeComparator implements Comparator<SimplePair<Double,DCEL_Edge> > {
+        private void ensureRotation() {
+          if(this.rotation != null)
+            return;
+          this.rotation = new DCEL_Edge[4];
+          this.degree = 0;
+          if(this.boundary_edge != null)
+            this.rotation[this.degree++] = this.boundary_edge;
+        }
 
-          @Override
-          public int compare(SimplePair<Double,DCEL_Edge> p1, SimplePair<Double,DCEL_Edge> p2) {
-            if(Math.abs(p1.getKey() - p2.getKey()) < eps) return 0;
-            if(p1.getKey() < p2.getKey()) return -1;
-            return 1;
+        //Number of edges in the rotation whose direction comes strictly before
+        //the direction towards (x,y), found by binary search.
+        private int rank(double x, double y) {
+          int lo = 0, hi = this.degree;
+          while(lo < hi) {
+            int mid = (lo+hi) >>> 1;
+            Node to = this.rotation[mid].next().origin();
+            if(Predicates.compareDirection(this.x, this.y, to.x, to.y, x, y) < 0)
+              lo = mid+1;
+            else
+              hi = mid;
           }
+          return lo;
         }
 
     }
@@ -414,20 +534,19 @@ public class DoublyConnectedEdgeList {
       private int id, DCEL_id;
       private boolean is_counter_clock;
 
+      //Unnumbered edge, only used as a search key
       public DCEL_Edge() {
         this.origin = null;
         this.next = null;
         this.prev = null;
         this.twin = null;
-        DoublyConnectedEdgeList.incrementEdgeCount();
-        this.id = DoublyConnectedEdgeList.edge_count();
+        this.id = 0;
         this.DCEL_id = 0;
         this.is_counter_clock = true;
       }
 
-      public DCEL_Edge(int DCEL_id) {
-        DoublyConnectedEdgeList.incrementEdgeCount();
-        this.id = DoublyConnectedEdgeList.edge_count();
+      public DCEL_Edge(int DCEL_id, IdContext ids) {
+        this.id = ids.nextEdgeId();
         this.DCEL_id = DCEL_id;
       }
 
@@ -445,6 +564,17 @@ public class DoublyConnectedEdgeList {
         this.is_counter_clock = true;
       }
 
+      //Reinitialises a pooled edge for a new solve, see SolveArena.
+      void recycle(int DCEL_id, int id) {
+        this.origin = null;
+        this.next = null;
+        this.prev = null;
+        this.twin = null;
+        this.id = id;
+        this.DCEL_id = DCEL_id;
+        this.is_counter_clock = false;
+      }
+
       public Node origin() {
         return this.origin;
       }
@@ -581,12 +711,12 @@ public class DoublyConnectedEdgeList {
         this.id = id;
       }
 
-      public DoublyConnectedEdgeList convertToDCEL() {
+      public DoublyConnectedEdgeList convertToDCEL(IdContext ids) {
         ArrayList<Vertex> nodes = new ArrayList<Vertex>();
         nodes.add(first);
         nodes.add(second);
         nodes.add(third);
-        return new DoublyConnectedEdgeList(nodes,this.id());
+        return new DoublyConnectedEdgeList(nodes,this.id(),ids);
       }
 
       public void printTriangle() {
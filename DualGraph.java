@@ -4,6 +4,7 @@
 // representation of triangulation graph obtained from triangulation of monotone polygon
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.TreeMap;
 
 public class DualGraph {
@@ -11,6 +12,8 @@ public class DualGraph {
   private TreeMap<Integer, ArrayList<Integer>> adjacencyList;
   private ArrayList<Vertex> vertices;
   private int n;
+  private int[] triangles;  //packed node index triples, array backed pipeline
+  private int[] neighbors;  //neighbors[3t+k] is the triangle across edge k of t, or -1
   public DualGraph() {
     this.listOfTriangles = new ArrayList<DoublyConnectedEdgeList>();
   }
@@ -21,6 +24,11 @@ public class DualGraph {
     n = vertices.size();
   }
 
+  public DualGraph(int[] triangles, int vertexCount) {
+    this.triangles = triangles;
+    this.n = vertexCount;
+  }
+
   public ArrayList<DoublyConnectedEdgeList> getListOfTriangles() {
     return this.listOfTriangles;
   }
@@ -34,50 +42,117 @@ public class DualGraph {
     return this.vertices;
   }
 
+  public int[] getNeighbors() {
+    return this.neighbors;
+  }
+
   public void construct() {
+    if(this.triangles != null) {
+      constructPacked();
+      return;
+    }
 
-    int numberOfTriangles = listOfTriangles.size();
     DoublyConnectedEdgeList.DCEL_Edge temp;
-    ArrayList<Integer> tempList;
     this.adjacencyList = new TreeMap<Integer,ArrayList<Integer>>();
 
+    //Both lookups go through coordinate hashes instead of scanning every
+    //vertex and every other triangle for each edge.
+    SpatialIndex<Integer> vertexIndex = new SpatialIndex<Integer>(0.001);
+    for(int i=0;i<n;i++)
+      vertexIndex.addPoint(vertices.get(i).x(), vertices.get(i).y(), i+1);
+
+    //Triangles of one shared mesh (MonotoneTriangulation.triangulateInPlace)
+    //reach their neighbours through the twin links; separate triangles only
+    //have outer twins and are matched on coordinates.
+    boolean linked = isLinked();
+    SpatialIndex<DoublyConnectedEdgeList.Node> edgeIndex = linked ? null : SpatialIndex.of(listOfTriangles, 1e-4);
 
     for(int ind1 = 0; ind1 < listOfTriangles.size(); ind1++) {
       DoublyConnectedEdgeList d = listOfTriangles.get(ind1);
-      DoublyConnectedEdgeList d2;
-      DoublyConnectedEdgeList.DCEL_Edge temp2;
       temp = d.rep_edge();
-      int temporary_id = temp.id();
 
       assert(temp.DCEL_id() == d.id());
 
       do {
-        for(int i=0;i<n;i++)
-        {
-          if(Math.abs(temp.origin().x() - vertices.get(i).x()) < 0.001 && Math.abs(temp.origin().y() - vertices.get(i).y()) < 0.001)
-            temp.origin().setID(i+1);
-        }
-        for(int ind2 = 0; ind2 < listOfTriangles.size(); ind2++) {
-          if(ind1 == ind2)  continue;
-          d2 = listOfTriangles.get(ind2);
-          temp2 = d2.rep_edge();
-
-          if(temp.isEqualto(temp2) || temp.isEqualto(temp2.next()) || temp.isEqualto(temp2.prev())) {
-            if(adjacencyList.containsKey(temp.DCEL_id()))
-              tempList = adjacencyList.get(temp.DCEL_id());
-            else
-              tempList = new ArrayList<Integer>();
-
-            tempList.add(temp2.DCEL_id());
-            adjacencyList.put(temp.DCEL_id(),tempList);
+        Integer vertexId = vertexIndex.pointAt(temp.origin().x(), temp.origin().y());
+        if(vertexId != null)
+          temp.origin().setID(vertexId);
 
+        if(linked) {
+          if(temp.twin() != null && temp.twin().DCEL_id() > 0)
+            addNeighbor(temp.DCEL_id(), temp.twin().DCEL_id());
+        }
+        else {
+          for(DoublyConnectedEdgeList.DCEL_Edge temp2: edgeIndex.segmentAt(temp)) {
+            if(temp2.DCEL_id() != d.id())
+              addNeighbor(temp.DCEL_id(), temp2.DCEL_id());
           }
         }
         temp = temp.next();
         assert(temp.DCEL_id() == d.id());
 
-      } while(temp.id() != temporary_id);
+      } while(temp != d.rep_edge());
+    }
+  }
+
+  private void addNeighbor(int from, int to) {
+    ArrayList<Integer> tempList = adjacencyList.get(from);
+    if(tempList == null) {
+      tempList = new ArrayList<Integer>();
+      adjacencyList.put(from,tempList);
     }
+    tempList.add(to);
+  }
+
+  private boolean isLinked() {
+    if(listOfTriangles.isEmpty())
+      return false;
+    DoublyConnectedEdgeList.DCEL_Edge rep = listOfTriangles.get(0).rep_edge(), temp = rep;
+    do {
+      if(temp.twin() != null && temp.twin().DCEL_id() > 0)
+        return true;
+      temp = temp.next();
+    } while(temp != rep);
+    return false;
   }
 
+  //Edge k of triangle t runs from corner k to corner k+1. Both copies of an
+  //interior edge are brought together by bucketing the edge slots on their
+  //smaller endpoint and sorting each bucket on the larger one.
+  private void constructPacked() {
+    int slots = triangles.length;
+    this.neighbors = new int[slots];
+    Arrays.fill(neighbors, -1);
+
+    int[] bucketStart = new int[n+1];
+    for(int s = 0; s < slots; s++)
+      bucketStart[Math.min(triangles[s], triangles[nextSlot(s)])+1]++;
+    for(int v = 0; v < n; v++)
+      bucketStart[v+1] += bucketStart[v];
+
+    long[] keys = new long[slots];
+    int[] fill = Arrays.copyOf(bucketStart, n);
+    for(int s = 0; s < slots; s++) {
+      int a = triangles[s], b = triangles[nextSlot(s)];
+      keys[fill[Math.min(a, b)]++] = ((long) Math.max(a, b) << 32) | s;
+    }
+
+    for(int v = 0; v < n; v++) {
+      int from = bucketStart[v], to = bucketStart[v+1];
+      if(to - from > 1)
+        Arrays.sort(keys, from, to);
+      for(int i = from; i+1 < to; i++) {
+        if((keys[i] >>> 32) == (keys[i+1] >>> 32)) {
+          int s1 = (int) keys[i], s2 = (int) keys[i+1];
+          neighbors[s1] = s2 / 3;
+          neighbors[s2] = s1 / 3;
+          i++;
+        }
+      }
+    }
+  }
+
+  private static int nextSlot(int s) {
+    return (s % 3 == 2) ? s-2 : s+1;
+  }
 }
@@ -0,0 +1,252 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// EarClippingTriangulation.java - This file contains a triangulation engine
+// that clips ears off the polygon directly, without a monotone partition. The
+// ring is kept as a doubly linked list in int arrays, and on larger inputs a
+// second list sorted along a z-order curve limits each ear test to the
+// vertices inside the bounding box of the candidate ear. Only a single ring
+// is clipped; polygons with holes are handed to MonotoneTriangulation.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class EarClippingTriangulation implements TriangulationStrategy {
+
+    private static final int NONE = -1;
+    //Below this size the ear test walks the whole ring; building the z-order
+    //index only pays off on larger polygons.
+    private static final int HASH_THRESHOLD = 80;
+
+    private double[] xs, ys;
+    private int[] prev, next;         //ring still to be clipped, counter clockwise
+    private int[] z, prev_z, next_z;  //the same vertices along the z-order curve
+    private double min_x, min_y, inv_size;
+    private boolean fell_back;
+
+    //Whether the last call had to hand the polygon to MonotoneTriangulation
+    //because no ear could be found, which only degenerate input causes.
+    public boolean fellBack() {
+      return this.fell_back;
+    }
+
+    public ArrayList<DoublyConnectedEdgeList> triangulate(DoublyConnectedEdgeList polygon) {
+      this.fell_back = false;
+      if(!polygon.holes().isEmpty())
+        return new MonotoneTriangulation().triangulate(polygon);
+
+      int n = polygon.faceSize();
+      DoublyConnectedEdgeList.Node[] nodes = new DoublyConnectedEdgeList.Node[n];
+      double[] x = new double[n], y = new double[n];
+      DoublyConnectedEdgeList.DCEL_Edge e = polygon.rep_edge();
+      for(int i = 0; i < n; i++) {
+        nodes[i] = e.origin();
+        x[i] = nodes[i].x();
+        y[i] = nodes[i].y();
+        e = e.next();
+      }
+
+      int[] triangles = clip(x, y, n);
+      if(triangles == null)
+        return new MonotoneTriangulation().triangulate(polygon);
+
+      IdContext ids = polygon.ids();
+      ArrayList<DoublyConnectedEdgeList> listOfTriangles = new ArrayList<DoublyConnectedEdgeList>(triangles.length / 3);
+      for(int k = 0; k < triangles.length; k += 3) {
+        DoublyConnectedEdgeList.Triangle triangle = new DoublyConnectedEdgeList.Triangle(nodes[triangles[k]], nodes[triangles[k+1]], nodes[triangles[k+2]], ids.DCEL_count());
+        ids.nextDCELId();
+        listOfTriangles.add(triangle.convertToDCEL(ids));
+      }
+      return listOfTriangles;
+    }
+
+    //Leaves the mesh itself untouched; only the fallback partitions it.
+    public int[] triangulate(ArrayDoublyConnectedEdgeList mesh) {
+      this.fell_back = false;
+      if(mesh.ringCount() > 1)
+        return new MonotoneTriangulation().triangulate(mesh);
+
+      int n = mesh.nodeCount();
+      int[] ring = new int[n];
+      double[] x = new double[n], y = new double[n];
+      int v = 0;
+      for(int i = 0; i < n; i++) {
+        ring[i] = v;
+        x[i] = mesh.x(v);
+        y[i] = mesh.y(v);
+        v = mesh.boundaryNext(v);
+      }
+
+      int[] triangles = clip(x, y, n);
+      if(triangles == null)
+        return new MonotoneTriangulation().triangulate(mesh);
+      for(int k = 0; k < triangles.length; k++)
+        triangles[k] = ring[triangles[k]];
+      return triangles;
+    }
+
+    //Triangulates the ring x,y (either orientation) and returns the triangles
+    //as counter clockwise triples of ring positions, or null if clipping
+    //stalls. After each ear the search resumes two vertices further on, which
+    //spreads the cuts around the ring instead of fanning out of one vertex.
+    private int[] clip(double[] x, double[] y, int n) {
+      this.fell_back = false;
+      if(n < 3)
+        return new int[0];
+      this.xs = x;
+      this.ys = y;
+      link(n);
+
+      int[] triangles = new int[3*(n-2)];
+      int count = 0;
+      boolean hashed = n >= HASH_THRESHOLD;
+      if(hashed)
+        index(n);
+
+      int ear = 0, stop = 0, left = n;
+      while(left > 3) {
+        int a = prev[ear], c = next[ear];
+        if(hashed ? isEarHashed(ear) : isEar(ear)) {
+          triangles[count++] = a;
+          triangles[count++] = ear;
+          triangles[count++] = c;
+          remove(ear, hashed);
+          left--;
+          ear = next[c];
+          stop = ear;
+          continue;
+        }
+        ear = c;
+        if(ear == stop) {
+          this.fell_back = true;
+          return null;
+        }
+      }
+      triangles[count++] = prev[ear];
+      triangles[count++] = ear;
+      triangles[count++] = next[ear];
+      return triangles;
+    }
+
+    //Links the ring so that next always walks it counter clockwise.
+    private void link(int n) {
+      double area = 0;
+      for(int i = 0, j = n-1; i < n; j = i++)
+        area += (xs[j] - xs[i]) * (ys[j] + ys[i]);
+      boolean ccw = area > 0;
+
+      prev = new int[n];
+      next = new int[n];
+      for(int i = 0; i < n; i++) {
+        int after = (i+1 == n) ? 0 : i+1, before = (i == 0) ? n-1 : i-1;
+        next[i] = ccw ? after : before;
+        prev[i] = ccw ? before : after;
+      }
+    }
+
+    private void remove(int v, boolean hashed) {
+      next[prev[v]] = next[v];
+      prev[next[v]] = prev[v];
+      if(hashed) {
+        if(prev_z[v] != NONE)
+          next_z[prev_z[v]] = next_z[v];
+        if(next_z[v] != NONE)
+          prev_z[next_z[v]] = prev_z[v];
+      }
+    }
+
+    //b is an ear when it is a strictly convex corner and no other vertex lies
+    //in or on the triangle a,b,c. Only reflex or flat vertices can, since a
+    //convex one inside would drag a reflex one in with it.
+    private boolean isEar(int b) {
+      int a = prev[b], c = next[b];
+      if(orientation(a, b, c) <= 0)
+        return false;
+      for(int p = next[c]; p != a; p = next[p]) {
+        if(blocks(p, a, b, c))
+          return false;
+      }
+      return true;
+    }
+
+    //Same test, but only the vertices whose z value lies between those of
+    //the corners of the ear's bounding box are candidates. Walks both ways
+    //from b along the z-order list.
+    private boolean isEarHashed(int b) {
+      int a = prev[b], c = next[b];
+      if(orientation(a, b, c) <= 0)
+        return false;
+
+      double lo_x = Math.min(xs[a], Math.min(xs[b], xs[c])), hi_x = Math.max(xs[a], Math.max(xs[b], xs[c]));
+      double lo_y = Math.min(ys[a], Math.min(ys[b], ys[c])), hi_y = Math.max(ys[a], Math.max(ys[b], ys[c]));
+      int min_z = zOrder(lo_x, lo_y), max_z = zOrder(hi_x, hi_y);
+
+      for(int p = next_z[b]; p != NONE && z[p] <= max_z; p = next_z[p]) {
+        if(p != a && p != c && inBox(p, lo_x, lo_y, hi_x, hi_y) && blocks(p, a, b, c))
+          return false;
+      }
+      for(int p = prev_z[b]; p != NONE && z[p] >= min_z; p = prev_z[p]) {
+        if(p != a && p != c && inBox(p, lo_x, lo_y, hi_x, hi_y) && blocks(p, a, b, c))
+          return false;
+      }
+      return true;
+    }
+
+    private boolean blocks(int p, int a, int b, int c) {
+      return orientation(a, b, p) >= 0 && orientation(b, c, p) >= 0 && orientation(c, a, p) >= 0
+          && orientation(prev[p], p, next[p]) <= 0;
+    }
+
+    private boolean inBox(int p, double lo_x, double lo_y, double hi_x, double hi_y) {
+      return xs[p] >= lo_x && xs[p] <= hi_x && ys[p] >= lo_y && ys[p] <= hi_y;
+    }
+
+    private int orientation(int a, int b, int c) {
+      return Predicates.orientation(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+    }
+
+    //Sorts the vertices along a z-order curve over the bounding box of the
+    //polygon. The sort key packs the z value above the vertex index.
+    private void index(int n) {
+      min_x = xs[0];
+      min_y = ys[0];
+      double max_x = xs[0], max_y = ys[0];
+      for(int i = 1; i < n; i++) {
+        min_x = Math.min(min_x, xs[i]);
+        min_y = Math.min(min_y, ys[i]);
+        max_x = Math.max(max_x, xs[i]);
+        max_y = Math.max(max_y, ys[i]);
+      }
+      double size = Math.max(max_x - min_x, max_y - min_y);
+      inv_size = (size > 0) ? 32767 / size : 0;
+
+      z = new int[n];
+      long[] keys = new long[n];
+      for(int i = 0; i < n; i++) {
+        z[i] = zOrder(xs[i], ys[i]);
+        keys[i] = ((long) z[i] << 32) | i;
+      }
+      Arrays.sort(keys);
+
+      prev_z = new int[n];
+      next_z = new int[n];
+      for(int k = 0; k < n; k++) {
+        int v = (int) keys[k];
+        prev_z[v] = (k == 0) ? NONE : (int) keys[k-1];
+        next_z[v] = (k == n-1) ? NONE : (int) keys[k+1];
+      }
+    }
+
+    //Interleaves the bits of the 15 bit cell coordinates of (x,y). Monotone
+    //in both x and y, so a box's points have z values between its corners'.
+    private int zOrder(double x, double y) {
+      return spread((int) ((x - min_x) * inv_size)) | (spread((int) ((y - min_y) * inv_size)) << 1);
+    }
+
+    private static int spread(int v) {
+      v = (v | (v << 8)) & 0x00FF00FF;
+      v = (v | (v << 4)) & 0x0F0F0F0F;
+      v = (v | (v << 2)) & 0x33333333;
+      v = (v | (v << 1)) & 0x55555555;
+      return v;
+    }
+}
@@ -0,0 +1,176 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// EdgeFlip.java - This file contains an optional pass run on a finished
+// triangulation before camera placement. It flips diagonals, the edges two
+// triangles share, while a criterion says the other diagonal of their
+// quadrilateral is better. Polygon edges have no triangle across them, so
+// they are never flipped and the result triangulates the same polygon.
+// Edges whose neighbourhood changed are queued again, so each flip costs
+// O(1) and the pass ends when the queue is empty.
+
+public final class EdgeFlip {
+
+    public enum Criterion {
+      //Lawson flips to the constrained Delaunay triangulation, which
+      //maximizes the smallest angle.
+      DELAUNAY,
+      //Flips that lower the number of triangles no corner can cover with
+      //CameraPlacement's field of view. Every flip removes at least one, so
+      //there are fewer flips than triangles.
+      COVERABLE
+    }
+
+    public static class Result {
+      public final TriangleMesh mesh;
+      public final int flips;
+      public final int uncoverableBefore, uncoverableAfter;
+
+      Result(TriangleMesh mesh, int flips, int uncoverableBefore, int uncoverableAfter) {
+        this.mesh = mesh;
+        this.flips = flips;
+        this.uncoverableBefore = uncoverableBefore;
+        this.uncoverableAfter = uncoverableAfter;
+      }
+
+      @Override
+      public String toString() {
+        return String.format("%d flips, uncoverable triangles %d -> %d of %d",
+                             flips, uncoverableBefore, uncoverableAfter, mesh.triangleCount());
+      }
+    }
+
+    private final TriangleMesh mesh;
+    private final Criterion criterion;
+    private final int[] triangles, neighbors;
+    private final int[] queue;       //edge slots to test, circular
+    private final boolean[] queued;
+    private int head, size;
+
+    private EdgeFlip(TriangleMesh mesh, Criterion criterion) {
+      this.mesh = mesh;
+      this.criterion = criterion;
+      this.triangles = mesh.triangles().clone();
+      this.neighbors = mesh.neighbors().clone();
+      this.queue = new int[triangles.length];
+      this.queued = new boolean[triangles.length];
+    }
+
+    //Flips a copy of the mesh; the mesh passed in is left as it is.
+    public static Result improve(TriangleMesh mesh, Criterion criterion) {
+      int before = CameraPlacement.uncoverableCount(mesh);
+      EdgeFlip pass = new EdgeFlip(mesh, criterion);
+      int flips = pass.run();
+      TriangleMesh out = mesh.withTriangles(pass.triangles, pass.neighbors);
+      return new Result(out, flips, before, CameraPlacement.uncoverableCount(out));
+    }
+
+    //Slot s = 3t+k stands for the edge from corner k to corner k+1 of t.
+    //Every diagonal starts in the queue once, from its lower triangle.
+    private int run() {
+      for(int s = 0; s < triangles.length; s++) {
+        if(neighbors[s] > s/3)
+          push(s);
+      }
+      int flips = 0;
+      while(size > 0) {
+        int s = queue[head];
+        head = (head+1 == queue.length) ? 0 : head+1;
+        size--;
+        queued[s] = false;
+        if(neighbors[s] >= 0 && shouldFlip(s)) {
+          flip(s);
+          flips++;
+        }
+      }
+      return flips;
+    }
+
+    //Edge a-b of t = (a, b, c), seen from u = (b, a, d) as well. The new
+    //diagonal c-d is only allowed if both triangles it makes turn counter
+    //clockwise, that is if the quadrilateral a, d, b, c is strictly convex.
+    private boolean shouldFlip(int s) {
+      int a = triangles[s], b = triangles[next(s)], c = triangles[prev(s)];
+      int d = triangles[prev(slotOf(neighbors[s], b))];
+      if(orientation(c, a, d) <= 0 || orientation(d, b, c) <= 0)
+        return false;
+      if(criterion == Criterion.DELAUNAY)
+        return Predicates.inCircle(mesh.x(a), mesh.y(a), mesh.x(b), mesh.y(b), mesh.x(c), mesh.y(c), mesh.x(d), mesh.y(d)) > 0;
+      int now = uncoverable(a, b, c) + uncoverable(b, a, d);
+      return uncoverable(c, a, d) + uncoverable(d, b, c) < now;
+    }
+
+    //t = (a, b, c) and u = (b, a, d) become t = (c, a, d) and u = (d, b, c).
+    //The triangles across c-a and b-d keep their slots; those across a-d and
+    //b-c change sides, so their links back are moved too.
+    private void flip(int s) {
+      int t = s/3, u = neighbors[s];
+      int a = triangles[s], b = triangles[next(s)], c = triangles[prev(s)];
+      int j = slotOf(u, b), d = triangles[prev(j)];
+      int across_ca = neighbors[prev(s)], across_bc = neighbors[next(s)];
+      int across_ad = neighbors[next(j)], across_db = neighbors[prev(j)];
+
+      set(3*t, c, across_ca);
+      set(3*t+1, a, across_ad);
+      set(3*t+2, d, u);
+      set(3*u, d, across_db);
+      set(3*u+1, b, across_bc);
+      set(3*u+2, c, t);
+      relink(across_ad, u, t);
+      relink(across_bc, t, u);
+
+      push(3*t);
+      push(3*t+1);
+      push(3*u);
+      push(3*u+1);
+    }
+
+    private void set(int slot, int corner, int neighbor) {
+      triangles[slot] = corner;
+      neighbors[slot] = neighbor;
+    }
+
+    //Points the link of triangle w that led to from at to instead. Two
+    //triangles of a simple polygon share at most one edge.
+    private void relink(int w, int from, int to) {
+      if(w < 0)
+        return;
+      for(int k = 3*w; k < 3*w+3; k++) {
+        if(neighbors[k] == from)
+          neighbors[k] = to;
+      }
+    }
+
+    private void push(int s) {
+      if(queued[s] || neighbors[s] < 0)
+        return;
+      queued[s] = true;
+      int tail = head + size;
+      queue[(tail >= queue.length) ? tail - queue.length : tail] = s;
+      size++;
+    }
+
+    //Slot of triangle u whose corner is v.
+    private int slotOf(int u, int v) {
+      for(int k = 3*u; k < 3*u+2; k++) {
+        if(triangles[k] == v)
+          return k;
+      }
+      return 3*u+2;
+    }
+
+    private int uncoverable(int a, int b, int c) {
+      return CameraPlacement.isCoverable(mesh.x(a), mesh.y(a), mesh.x(b), mesh.y(b), mesh.x(c), mesh.y(c)) ? 0 : 1;
+    }
+
+    private int orientation(int a, int b, int c) {
+      return Predicates.orientation(mesh.x(a), mesh.y(a), mesh.x(b), mesh.y(b), mesh.x(c), mesh.y(c));
+    }
+
+    private static int next(int s) {
+      return (s % 3 == 2) ? s-2 : s+1;
+    }
+
+    private static int prev(int s) {
+      return (s % 3 == 0) ? s+2 : s-1;
+    }
+}
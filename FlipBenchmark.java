@@ -0,0 +1,60 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// FlipBenchmark.java - This file contains a command line report on the
+// EdgeFlip pass. It triangulates random star shaped polygons with the
+// monotone pipeline, runs both flip criteria and prints the flips and time
+// they take, the triangles CameraPlacement cannot cover before and after,
+// and, for inputs the greedy cover finishes quickly on, the cameras placed.
+//
+// Usage: java FlipBenchmark [n ...]   (default 1000 10000 100000 1000000)
+
+import java.util.Random;
+
+public class FlipBenchmark {
+    private static final int CAMERA_LIMIT = 2000;  //largest input the set cover is run on
+
+    public static void main(String[] args) {
+        int[] sizes = {1000, 10000, 100000, 1000000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++)
+                sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("%10s %10s %-10s %10s %10s %14s %10s%n", "vertices", "triangles", "pass", "flips", "ms", "uncoverable", "cameras");
+        for (int n : sizes) {
+            double[][] polygon = starPolygon(n, n);
+            ArrayDoublyConnectedEdgeList mesh = new ArrayDoublyConnectedEdgeList(polygon[0], polygon[1], n);
+            TriangleMesh monotone = TriangleMesh.of(mesh, new MonotoneTriangulation().triangulate(mesh));
+            monotone.neighbors();
+            print(n, monotone, "monotone", 0, 0);
+
+            for (EdgeFlip.Criterion criterion : EdgeFlip.Criterion.values()) {
+                long start = System.nanoTime();
+                EdgeFlip.Result result = EdgeFlip.improve(monotone, criterion);
+                long end = System.nanoTime();
+                print(n, result.mesh, criterion.name().toLowerCase(), result.flips, (end - start) / 1e6);
+            }
+        }
+    }
+
+    private static void print(int n, TriangleMesh mesh, String pass, int flips, double ms) {
+        String cameras = (n <= CAMERA_LIMIT) ? Integer.toString(CameraPlacement.solve(mesh, false).size()) : "-";
+        System.out.printf("%10d %10d %-10s %10d %10.1f %14d %10s%n", n, mesh.triangleCount(), pass, flips, ms,
+                          CameraPlacement.uncoverableCount(mesh), cameras);
+    }
+
+    //Same polygons as PartitionBenchmark: vertices at evenly spaced angles
+    //with random radii, simple and counter clockwise.
+    private static double[][] starPolygon(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            double radius = 1000 + rand.nextDouble() * 900;
+            xs[i] = radius * Math.cos(angle);
+            ys[i] = radius * Math.sin(angle);
+        }
+        return new double[][] {xs, ys};
+    }
+}
@@ -0,0 +1,59 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// IdContext.java - This file contains the per-solve counters that hand out
+// DCEL, edge and node ids. Every polygon gets its own context, so ids start
+// from 1 for each solve and solves on different threads never share a counter.
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IdContext {
+
+    private final AtomicInteger DCEL_count = new AtomicInteger();  //number of DCELs
+    private final AtomicInteger edge_count = new AtomicInteger();  //number of edges
+    private final AtomicInteger node_count = new AtomicInteger();  //number of nodes
+
+    public int nextDCELId() {
+      return DCEL_count.incrementAndGet();
+    }
+
+    public int nextEdgeId() {
+      return edge_count.incrementAndGet();
+    }
+
+    public int nextNodeId() {
+      return node_count.incrementAndGet();
+    }
+
+    public int DCEL_count() {
+      return DCEL_count.get();
+    }
+
+    public int edge_count() {
+      return edge_count.get();
+    }
+
+    public int node_count() {
+      return node_count.get();
+    }
+
+    //Starts the counters over for the next solve on this context.
+    public void reset() {
+      DCEL_count.set(0);
+      edge_count.set(0);
+      node_count.set(0);
+    }
+
+    //Factories for the records of a solve. A plain context allocates fresh
+    //ones; SolveArena overrides these to hand out recycled records.
+    public DoublyConnectedEdgeList.DCEL_Edge newEdge(int DCEL_id) {
+      return new DoublyConnectedEdgeList.DCEL_Edge(DCEL_id, this);
+    }
+
+    public DoublyConnectedEdgeList.Node newNode(Vertex v) {
+      return new DoublyConnectedEdgeList.Node(v);
+    }
+
+    public DoublyConnectedEdgeList newFace(DoublyConnectedEdgeList.DCEL_Edge rep_edge) {
+      return new DoublyConnectedEdgeList(rep_edge, this);
+    }
+}
@@ -0,0 +1,255 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// MeshSnapshot.java - This file contains a versioned binary layout for a solved
+// polygon: its nodes, the monotone pieces and the triangulation with dual graph
+// links. Files are opened with FileChannel.map and read in place, so opening a
+// snapshot only checks the header; nothing is parsed or copied up front.
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+
+public class MeshSnapshot {
+
+    //Layout, little endian, all sections packed back to back:
+    //  header   int magic, version, node_count, piece_count, piece_node_count, triangle_count
+    //  nodes    double x[node_count], double y[node_count], int label[node_count]
+    //  pieces   int start[piece_count+1], int node[piece_node_count]
+    //  result   int triangle[3*triangle_count], int neighbor[3*triangle_count]
+    //Pieces and triangles refer to nodes by their position in the node section.
+    public static final int MAGIC = 0x53504741;  //"AGPS"
+    public static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+
+    private final ByteBuffer buffer;
+    private final int node_count, piece_count, piece_node_count, triangle_count;
+    private final DoubleBuffer xs, ys;
+    private final IntBuffer labels, piece_start, piece_nodes, triangles, neighbors;
+
+    private MeshSnapshot(ByteBuffer buffer) throws IOException {
+      this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+      if(buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC)
+        throw new IOException("Not a mesh snapshot");
+      if(buffer.getInt(4) != VERSION)
+        throw new IOException("Unsupported mesh snapshot version " + buffer.getInt(4));
+
+      this.node_count = buffer.getInt(8);
+      this.piece_count = buffer.getInt(12);
+      this.piece_node_count = buffer.getInt(16);
+      this.triangle_count = buffer.getInt(20);
+      long expected = size(node_count, piece_count, piece_node_count, triangle_count);
+      if(node_count < 0 || piece_count < 0 || piece_node_count < 0 || triangle_count < 0 || expected != buffer.capacity())
+        throw new IOException("Mesh snapshot is truncated or corrupt");
+
+      int offset = HEADER_BYTES;
+      this.xs = slice(offset, 8*node_count).asDoubleBuffer();
+      offset += 8*node_count;
+      this.ys = slice(offset, 8*node_count).asDoubleBuffer();
+      offset += 8*node_count;
+      this.labels = slice(offset, 4*node_count).asIntBuffer();
+      offset += 4*node_count;
+      this.piece_start = slice(offset, 4*(piece_count+1)).asIntBuffer();
+      offset += 4*(piece_count+1);
+      this.piece_nodes = slice(offset, 4*piece_node_count).asIntBuffer();
+      offset += 4*piece_node_count;
+      this.triangles = slice(offset, 12*triangle_count).asIntBuffer();
+      offset += 12*triangle_count;
+      this.neighbors = slice(offset, 12*triangle_count).asIntBuffer();
+    }
+
+    //Maps the file read only. The buffer stays valid after the channel is closed.
+    public static MeshSnapshot open(Path file) throws IOException {
+      try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        return new MeshSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      }
+    }
+
+    //Snapshot of the array backed pipeline. The inner faces of the mesh are
+    //stored as the pieces, so call this after the partition and before any
+    //other diagonals are added to it.
+    public static void write(Path file, ArrayDoublyConnectedEdgeList mesh, int[] triangles, int[] neighbors) throws IOException {
+      int n = mesh.nodeCount();
+      int faces = mesh.faceCount();
+      int[] start = new int[faces];
+      int total = 0;
+      for(int f = 1; f < faces; f++) {
+        start[f-1] = total;
+        total += mesh.faceSize(f);
+      }
+      start[faces-1] = total;
+
+      ByteBuffer out = create(file, n, faces-1, total, triangles.length/3);
+      for(int v = 0; v < n; v++)
+        out.putDouble(mesh.x(v));
+      for(int v = 0; v < n; v++)
+        out.putDouble(mesh.y(v));
+      for(int v = 0; v < n; v++)
+        out.putInt(mesh.index(v));
+      for(int f = 0; f < faces; f++)
+        out.putInt(start[f]);
+      for(int f = 1; f < faces; f++) {
+        int first = mesh.faceEdge(f), e = first;
+        do {
+          out.putInt(mesh.origin(e));
+          e = mesh.next(e);
+        } while(e != first);
+      }
+      for(int s = 0; s < triangles.length; s++)
+        out.putInt(triangles[s]);
+      for(int s = 0; s < triangles.length; s++)
+        out.putInt(neighbors[s]);
+      force(out);
+    }
+
+    //Snapshot of the pointer pipeline. Nodes are matched to the polygon
+    //vertices by their label (Vertex.index()), the dual graph links are
+    //rebuilt from the shared corners.
+    public static void write(Path file, ArrayList<Vertex> vertices, Collection<DoublyConnectedEdgeList> pieces, ArrayList<DoublyConnectedEdgeList> triangulation) throws IOException {
+      int n = vertices.size();
+      HashMap<Integer, Integer> position = new HashMap<Integer, Integer>();
+      for(int v = 0; v < n; v++)
+        position.put(vertices.get(v).index(), v);
+
+      int total = 0;
+      for(DoublyConnectedEdgeList piece: pieces)
+        total += piece.faceSize();
+
+      int[] corners = new int[3*triangulation.size()];
+      int[] slot = new int[1];
+      for(DoublyConnectedEdgeList triangle: triangulation)
+        triangle.forEachVertex((nodeId, x, y) -> corners[slot[0]++] = position.get(nodeId));
+      DualGraph dualGraph = new DualGraph(corners, n);
+      dualGraph.construct();
+      int[] links = dualGraph.getNeighbors();
+
+      ByteBuffer out = create(file, n, pieces.size(), total, triangulation.size());
+      for(int v = 0; v < n; v++)
+        out.putDouble(vertices.get(v).x());
+      for(int v = 0; v < n; v++)
+        out.putDouble(vertices.get(v).y());
+      for(int v = 0; v < n; v++)
+        out.putInt(vertices.get(v).index());
+      int start = 0;
+      out.putInt(start);
+      for(DoublyConnectedEdgeList piece: pieces) {
+        start += piece.faceSize();
+        out.putInt(start);
+      }
+      for(DoublyConnectedEdgeList piece: pieces)
+        piece.forEachVertex((nodeId, x, y) -> out.putInt(position.get(nodeId)));
+      for(int s = 0; s < corners.length; s++)
+        out.putInt(corners[s]);
+      for(int s = 0; s < links.length; s++)
+        out.putInt(links[s]);
+      force(out);
+    }
+
+    public int nodeCount() {
+      return this.node_count;
+    }
+
+    public double x(int v) {
+      return this.xs.get(v);
+    }
+
+    public double y(int v) {
+      return this.ys.get(v);
+    }
+
+    public int label(int v) {
+      return this.labels.get(v);
+    }
+
+    public int pieceCount() {
+      return this.piece_count;
+    }
+
+    public int pieceSize(int p) {
+      return this.piece_start.get(p+1) - this.piece_start.get(p);
+    }
+
+    //k-th node of piece p in counter clockwise order.
+    public int pieceNode(int p, int k) {
+      return this.piece_nodes.get(this.piece_start.get(p) + k);
+    }
+
+    public int triangleCount() {
+      return this.triangle_count;
+    }
+
+    public int corner(int t, int k) {
+      return this.triangles.get(3*t + k);
+    }
+
+    //Triangle across the edge from corner k to corner k+1 of t, or -1.
+    public int neighbor(int t, int k) {
+      return this.neighbors.get(3*t + k);
+    }
+
+    //Bulk copies in the packed form taken by DualGraph and ThreeColoring.
+    public int[] triangles() {
+      int[] out = new int[3*triangle_count];
+      this.triangles.duplicate().get(out);
+      return out;
+    }
+
+    public int[] neighbors() {
+      int[] out = new int[3*triangle_count];
+      this.neighbors.duplicate().get(out);
+      return out;
+    }
+
+    //Polygon boundary as vertices, in stored order with their labels.
+    public ArrayList<Vertex> vertices() {
+      ArrayList<Vertex> out = new ArrayList<Vertex>(node_count);
+      for(int v = 0; v < node_count; v++) {
+        Vertex vertex = new Vertex(x(v), y(v));
+        vertex.setIndex(label(v));
+        out.add(vertex);
+      }
+      return out;
+    }
+
+    //Absolute slice without moving the shared buffer's position; the
+    //positional slice(int, int) only exists from Java 13 on.
+    private ByteBuffer slice(int offset, int length) {
+      ByteBuffer view = this.buffer.duplicate();
+      view.position(offset);
+      view.limit(offset + length);
+      return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long size(int nodes, int pieces, int pieceNodes, int triangles) {
+      return HEADER_BYTES + 20L*nodes + 4L*(pieces+1) + 4L*pieceNodes + 24L*triangles;
+    }
+
+    private static ByteBuffer create(Path file, int nodes, int pieces, int pieceNodes, int triangles) throws IOException {
+      long bytes = size(nodes, pieces, pieceNodes, triangles);
+      if(bytes > Integer.MAX_VALUE)
+        throw new IOException("Mesh too large for a single snapshot: " + bytes + " bytes");
+      try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                 StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        ByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.putInt(nodes);
+        out.putInt(pieces);
+        out.putInt(pieceNodes);
+        out.putInt(triangles);
+        return out;
+      }
+    }
+
+    private static void force(ByteBuffer out) {
+      ((MappedByteBuffer) out).force();
+    }
+}
@@ -1,18 +1,27 @@
 // GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
 // Date: September 24, 2025
 // MonotonePartition.java - This file contains algorithm for partitioning a simple
-// polygon into monotone polygons using sweep line paradigm and trapezoidalization
+// polygon into monotone polygons using sweep line paradigm and trapezoidalization.
+// Polygons with holes are handled in the same sweep.
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.PriorityQueue;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.Consumer;
 
 public class MonotonePartition {
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16; //events sorted with Arrays.parallelSort from here on
     private ArrayList<Edge> trapezoidalization;
     private TreeMap<Integer,DoublyConnectedEdgeList> partition;
     private ArrayList<Edge> diagonals; // MODIFIED: Added list to store diagonals
+    private ArrayDoublyConnectedEdgeList mesh; //set when partitioning the array backed DCEL
+    private DoublyConnectedEdgeList.Node[] helper; //helper of each status edge, indexed by edge id
+    private byte[] helperType; //VertexType ordinal of that helper
+    private boolean trapezoids = true; //whether the sweep records trapezoid segments
+    private HashSet<DoublyConnectedEdgeList.Node> holeTops; //top vertex of every hole not bridged yet
+    private Consumer<DoublyConnectedEdgeList> pieces; //gets each monotone piece as soon as it is finished, or null
 
     public MonotonePartition() {
         this.partition = new TreeMap<Integer,DoublyConnectedEdgeList>();
@@ -21,41 +30,140 @@ public class MonotonePartition {
     }
 
     public MonotonePartition(DoublyConnectedEdgeList polygon) {
-        //Default PQ capacity is 11
-        PriorityQueue<DoublyConnectedEdgeList.Node> Q = new PriorityQueue<DoublyConnectedEdgeList.Node>(11, new MonotoneVertexComparator());
+        this(polygon, true);
+    }
+
+    //With trapezoids false only the diagonals and the monotone pieces are
+    //recorded; trapezoidalization() stays empty. Meant for batch runs where
+    //nothing is drawn.
+    public MonotonePartition(DoublyConnectedEdgeList polygon, boolean trapezoids) {
+        this(polygon, trapezoids, null);
+    }
 
-        DoublyConnectedEdgeList.DCEL_Edge cur_edge = polygon.rep_edge();
-        do
+    //Streams the partition: each monotone piece goes to the consumer on the
+    //sweep thread as soon as the sweep has passed its lowest vertex, since no
+    //diagonal can reach it after that. A consumer may hand it to other
+    //threads; nothing the sweep does later writes to the piece's edges.
+    public MonotonePartition(DoublyConnectedEdgeList polygon, boolean trapezoids, Consumer<DoublyConnectedEdgeList> pieces) {
+        this.trapezoids = trapezoids;
+        this.pieces = pieces;
+        //Events are sorted once up front instead of being polled from a heap;
+        //large polygons sort on all cores. Hole vertices join the same sweep.
+        ArrayList<DoublyConnectedEdgeList.DCEL_Edge> rings = polygon.holes();
+        int count = polygon.faceSize();
+        for (DoublyConnectedEdgeList.DCEL_Edge hole : rings)
+            count += ringSize(hole);
+        rings.add(0, polygon.rep_edge());
+        if (rings.size() > 1)
+            this.holeTops = new HashSet<DoublyConnectedEdgeList.Node>();
+
+        DoublyConnectedEdgeList.Node[] events = new DoublyConnectedEdgeList.Node[count];
+        int i = 0;
+        for (int r = 0; r < rings.size(); r++)
         {
-            Q.add(cur_edge.origin());
-            cur_edge = cur_edge.next();
-        }while(cur_edge.id() != polygon.rep_edge().id());
+            DoublyConnectedEdgeList.DCEL_Edge cur_edge = rings.get(r);
+            DoublyConnectedEdgeList.Node top = cur_edge.origin();
+            do
+            {
+                events[i++] = cur_edge.origin();
+                if (above(cur_edge.origin(), top))
+                    top = cur_edge.origin();
+                cur_edge = cur_edge.next();
+            } while (cur_edge != rings.get(r));
+            if (r > 0)
+                holeTops.add(top);
+        }
+        if (events.length >= PARALLEL_SORT_THRESHOLD)
+            Arrays.parallelSort(events, new MonotoneVertexComparator());
+        else
+            Arrays.sort(events, new MonotoneVertexComparator());
 
         this.partition = new TreeMap<Integer,DoublyConnectedEdgeList>();
         partition.put(polygon.id(),polygon);
         this.trapezoidalization = new ArrayList<Edge>();
         this.diagonals = new ArrayList<>(); // MODIFIED: Initialized the list
 
-        TreeSet<DoublyConnectedEdgeList.DCEL_Edge> T = new TreeSet<DoublyConnectedEdgeList.DCEL_Edge>(new MonotoneEdgeComparator());
-        TreeMap<Integer, SimplePair<DoublyConnectedEdgeList.Node,VertexType> > Helper = new TreeMap<Integer, SimplePair<DoublyConnectedEdgeList.Node,VertexType> >();
+        SweepStatus T = new SweepStatus(2*events.length + 1);
+        this.helper = new DoublyConnectedEdgeList.Node[2*events.length + 1];
+        this.helperType = new byte[2*events.length + 1];
 
-        while (! Q.isEmpty()) {
+        for (DoublyConnectedEdgeList.Node event : events) {
             try {
-                handleVertex(Q.poll(), T, Helper);
+                handleVertex(event, T);
+                if (pieces != null)
+                    emitFinished(event);
             } catch(Exception e) {
+                //Streamed pieces are already out with the consumer, so a
+                //failed sweep must not pass for a finished partition.
+                if (pieces != null)
+                    throw (e instanceof RuntimeException) ? (RuntimeException) e : new IllegalStateException(e);
                 e.printStackTrace();
                 break;
             }
         }
     }
     
+    //Partitions an array backed DCEL in place. The diagonals are inserted into
+    //the mesh itself, so the monotone pieces are its inner faces afterwards.
+    //This path is always headless: no trapezoids are recorded.
+    public MonotonePartition(ArrayDoublyConnectedEdgeList polygon) {
+        this();
+        sweep(polygon, null);
+    }
+
+    //Sweeps in the given direction, so the pieces are monotone along it; see
+    //SweepDirection.cheapest() for the one with the fewest pieces. The mesh
+    //is back in its own frame afterwards.
+    public MonotonePartition(ArrayDoublyConnectedEdgeList polygon, SweepDirection direction) {
+        this();
+        direction.enter(polygon);
+        try {
+            sweep(polygon, null);
+        } finally {
+            direction.leave(polygon);
+        }
+    }
+
+    //Streams the partition as above; each finished piece is passed as its
+    //node indices in counter clockwise order, a copy the sweep never touches.
+    public MonotonePartition(ArrayDoublyConnectedEdgeList polygon, Consumer<int[]> pieces) {
+        this();
+        sweep(polygon, pieces);
+    }
+
+    private void sweep(ArrayDoublyConnectedEdgeList polygon, Consumer<int[]> pieces) {
+        this.mesh = polygon;
+        this.trapezoids = false;
+
+        ArraySweep sweep = new ArraySweep(polygon);
+        int[] events = polygon.sweepOrder();
+        for (int i = 0; i < events.length; i++) {
+            sweep.handleVertex(events[i]);
+            if (pieces != null)
+                sweep.emitFinished(events[i], pieces);
+        }
+    }
+
+    public ArrayDoublyConnectedEdgeList mesh() {
+        return this.mesh;
+    }
+
     public ArrayList<Edge> getDiagonals() {
         return this.diagonals;
     }
 
-    private void addAndConnect(DoublyConnectedEdgeList.Node v_i, DoublyConnectedEdgeList.Node helper_v, DoublyConnectedEdgeList.DCEL_Edge e_prev, DoublyConnectedEdgeList.DCEL_Edge e_next, DoublyConnectedEdgeList polygonToSplit) {
+    //The face to split is the one whose wedge at v_i contains the diagonal,
+    //read straight off v_i's rotation. The top of a hole is a split vertex,
+    //and its diagonal bridges the hole into the face of its helper instead;
+    //the hole's own edges may still name a face that was split off since.
+    private void addAndConnect(DoublyConnectedEdgeList.Node v_i, DoublyConnectedEdgeList.Node helper_v) {
         diagonals.add(new Edge(new Vertex(v_i), new Vertex(helper_v)));
-        DoublyConnectedEdgeList newDCEL = polygonToSplit.connect(v_i, helper_v, e_prev, e_next);
+        if (holeTops != null && holeTops.remove(v_i)) {
+            partition.get(helper_v.IncidentEdge(v_i).DCEL_id()).bridge(v_i, helper_v);
+            return;
+        }
+        DoublyConnectedEdgeList polygonToSplit = partition.get(v_i.IncidentEdge(helper_v).DCEL_id());
+        DoublyConnectedEdgeList newDCEL = polygonToSplit.connect(v_i, helper_v);
         partition.put(newDCEL.id(), newDCEL);
     }
 
@@ -75,104 +183,90 @@ public class MonotonePartition {
         this.partition = partition;
     }
 
-    private void handleVertex(DoublyConnectedEdgeList.Node v_i, TreeSet<DoublyConnectedEdgeList.DCEL_Edge> T, TreeMap<Integer, SimplePair<DoublyConnectedEdgeList.Node,VertexType> > Helper) {
+    private void handleVertex(DoublyConnectedEdgeList.Node v_i, SweepStatus T) {
         DoublyConnectedEdgeList.DCEL_Edge e_prev = v_i.IncidentEdge().prev();
         DoublyConnectedEdgeList.DCEL_Edge e_next = v_i.IncidentEdge();
-        DoublyConnectedEdgeList.DCEL_Edge e_i, e_i_1, e_j, e_j_1;
+        DoublyConnectedEdgeList.DCEL_Edge e_i, e_i_1;
+        int e_j;
 
         e_i = e_next;
         e_i_1 = e_prev;
 
-        double x1,x2;
-
         switch (getVertexType(v_i)) {
             case START:
-                T.add(e_i);
-                T.add(e_i_1);
-                Helper.put(e_i.id(),new SimplePair<DoublyConnectedEdgeList.Node,VertexType>(v_i,VertexType.START));
+                T_Insert(T,e_i);
+                T_Insert(T,e_i_1);
+                setHelper(e_i.id(), v_i, VertexType.START);
                 break;
 
             case END:
-                if(Helper.get(e_i_1.id()).getValue() == VertexType.MERGE)
+                if(helperType[e_i_1.id()] == MERGE)
                 {
-                    addAndConnect(v_i, Helper.get(e_i_1.id()).getKey(), e_prev, e_next, partition.get(e_i_1.DCEL_id()));
+                    addAndConnect(v_i, helper[e_i_1.id()]);
                 }
-                T.remove(e_i);
-                T.remove(e_i_1);
+                T.remove(e_i.id());
+                T.remove(e_i_1.id());
                 break;
 
             case SPLIT:
                 e_j = T_Query(T,v_i,false);
-                e_j_1 = T_Query(T,v_i,true);
-
-                x1 = xQuery(e_j.getNode(true),e_j.getNode(false),v_i);
-                x2 = xQuery(e_j_1.getNode(true),e_j_1.getNode(false),v_i);
-                trapezoidalization.add(new Edge(new Vertex(x1,v_i.y()),new Vertex(x2,v_i.y())));
+                addTrapezoid(T, v_i, true, true);
 
-                addAndConnect(v_i, Helper.get(e_j.id()).getKey(), e_prev, e_next, partition.get(e_j.DCEL_id()));
-                Helper.put(e_j.id(),new SimplePair<DoublyConnectedEdgeList.Node,VertexType>(v_i,VertexType.SPLIT));
+                addAndConnect(v_i, helper[e_j]);
+                setHelper(e_j, v_i, VertexType.SPLIT);
 
-                T.add(e_i);
-                T.add(e_i_1);
+                T_Insert(T,e_i);
+                T_Insert(T,e_i_1);
 
-                Helper.put(e_i.id(),new SimplePair<DoublyConnectedEdgeList.Node,VertexType>(v_i,VertexType.SPLIT));
+                setHelper(e_i.id(), v_i, VertexType.SPLIT);
                 break;
 
             case MERGE:
-                if(Helper.get(e_i_1.id()).getValue() == VertexType.MERGE)
+                if(helperType[e_i_1.id()] == MERGE)
                 {
-                    addAndConnect(v_i, Helper.get(e_i_1.id()).getKey(), e_prev, e_next, partition.get(e_i_1.DCEL_id()));
+                    addAndConnect(v_i, helper[e_i_1.id()]);
                 }
-                T.remove(e_i);
-                T.remove(e_i_1);
+                T.remove(e_i.id());
+                T.remove(e_i_1.id());
 
                 e_j = T_Query(T,v_i,false);
-                e_j_1 = T_Query(T,v_i,true);
-
-                x1 = xQuery(e_j.getNode(true),e_j.getNode(false),v_i);
-                x2 = xQuery(e_j_1.getNode(true),e_j_1.getNode(false),v_i);
-                trapezoidalization.add(new Edge(new Vertex(x1,v_i.y()),new Vertex(x2,v_i.y())));
+                addTrapezoid(T, v_i, true, true);
 
-                if(Helper.get(e_j.id()).getValue() == VertexType.MERGE)
+                if(helperType[e_j] == MERGE)
                 {
-                    addAndConnect(v_i, Helper.get(e_j.id()).getKey(), e_prev, e_next, partition.get(e_j.DCEL_id()));
+                    addAndConnect(v_i, helper[e_j]);
                 }
-                Helper.put(e_j.id(),new SimplePair<DoublyConnectedEdgeList.Node,VertexType>(v_i,VertexType.MERGE));
+                setHelper(e_j, v_i, VertexType.MERGE);
                 break;
 
             case REGULAR:
-                if(Math.atan2(e_i.next().origin().y()-e_i.origin().y(),e_i.next().origin().x()-e_i.origin().x()) < 0)
+                if(above(e_i.origin(), e_i.next().origin()))
                 {
-                    if(Helper.get(e_i_1.id()).getValue() == VertexType.MERGE)
+                    if(helperType[e_i_1.id()] == MERGE)
                     {
-                        addAndConnect(v_i, Helper.get(e_i_1.id()).getKey(), e_prev, e_next, partition.get(e_i_1.DCEL_id()));
+                        addAndConnect(v_i, helper[e_i_1.id()]);
                     }
-                    T.remove(e_i_1);
+                    T.remove(e_i_1.id());
 
-                    e_j_1 = T_Query(T,v_i,true);
+                    addTrapezoid(T, v_i, false, true);
 
-                    x2 = xQuery(e_j_1.getNode(true),e_j_1.getNode(false),v_i);
-                    trapezoidalization.add(new Edge(new Vertex(v_i.x(),v_i.y()),new Vertex(x2,v_i.y())));
-
-                    T.add(e_i);
-                    Helper.put(e_i.id(),new SimplePair<DoublyConnectedEdgeList.Node,VertexType>(v_i,VertexType.REGULAR));
+                    T_Insert(T,e_i);
+                    setHelper(e_i.id(), v_i, VertexType.REGULAR);
                 }
                 else
                 {
-                    T.remove(e_i);
+                    T.remove(e_i.id());
 
                     e_j = T_Query(T,v_i,false);
-                    x1 = xQuery(e_j.getNode(true),e_j.getNode(false),v_i);
-                    trapezoidalization.add(new Edge(new Vertex(x1,v_i.y()),new Vertex(v_i.x(),v_i.y())));
+                    addTrapezoid(T, v_i, true, false);
 
-                    e_j = T_Query(T,v_i,false);
-                    if(Helper.get(e_j.id()).getValue() == VertexType.MERGE)
+                    if(helperType[e_j] == MERGE)
                     {
-                        addAndConnect(v_i, Helper.get(e_j.id()).getKey(), e_prev, e_next, partition.get(e_j.DCEL_id()));
+                        addAndConnect(v_i, helper[e_j]);
                     }
-                    Helper.put(e_j.id(),new SimplePair<DoublyConnectedEdgeList.Node,VertexType>(v_i,VertexType.REGULAR));
+                    setHelper(e_j, v_i, VertexType.REGULAR);
 
-                    T.add(e_i_1);
+                    T_Insert(T,e_i_1);
                 }
                 break;
             }
@@ -185,20 +279,19 @@ public class MonotonePartition {
         SPLIT,
         MERGE
     }
+    private static final byte MERGE = (byte) VertexType.MERGE.ordinal();
 
     private VertexType getVertexType(DoublyConnectedEdgeList.Node cur) {
 
         DoublyConnectedEdgeList.Node prev = cur.IncidentEdge().prev().origin();
         DoublyConnectedEdgeList.Node next = cur.IncidentEdge().next().origin();
-        if (prev.y() < cur.y() &&
-             next.y() < cur.y()) {
+        if (above(cur, prev) && above(cur, next)) {
             if (isConvex(cur)) {
                 return VertexType.START;
             } else {
                 return VertexType.SPLIT;
             }
-        } else if (prev.y() > cur.y() &&
-                    next.y() > cur.y()) {
+        } else if (above(prev, cur) && above(next, cur)) {
             if (isConvex(cur)) {
                 return VertexType.END;
             } else {
@@ -209,32 +302,178 @@ public class MonotonePartition {
         }
     }
 
+    //A face is finished when v is its lowest vertex: both neighbours of v on
+    //the face lie above it and the corner is convex. The diagonals of v were
+    //all added by this event, so turning around v sees every face it has.
+    private void emitFinished(DoublyConnectedEdgeList.Node v) {
+        DoublyConnectedEdgeList.DCEL_Edge start = v.IncidentEdge(), e = start;
+        do {
+            if (e.DCEL_id() >= 0) {  //-1 on the outside of the polygon
+                DoublyConnectedEdgeList.Node u = e.prev().origin(), w = e.next().origin();
+                if (above(u, v) && above(w, v) && Predicates.orientation(u, v, w) > 0)
+                    pieces.accept(partition.get(e.DCEL_id()));
+            }
+            e = e.prev().twin();
+        } while (e != start);
+    }
+
+    private static int ringSize(DoublyConnectedEdgeList.DCEL_Edge start) {
+        int size = 0;
+        DoublyConnectedEdgeList.DCEL_Edge e = start;
+        do {
+            size++;
+            e = e.next();
+        } while (e != start);
+        return size;
+    }
+
+    //Sweep order: higher y first, smaller x first on equal y, so no two
+    //vertices tie and a horizontal edge still has a top and a bottom end.
+    private static boolean above(DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b) {
+        return a.y() > b.y() || (a.y() == b.y() && a.x() < b.x());
+    }
+
     private boolean isConvex(DoublyConnectedEdgeList.Node b) {
         DoublyConnectedEdgeList.Node a = b.IncidentEdge().prev().origin();
         DoublyConnectedEdgeList.Node c = b.IncidentEdge().next().origin();
-        double th1 = Math.atan2(b.y()-a.y(),b.x()-a.x());
-        double th2 = Math.atan2(c.y()-b.y(),c.x()-b.x());
-        double diff = th2 - th1;
-        if(diff > Math.PI)
-            diff -= 2*Math.PI;
-        if(diff < -Math.PI)
-            diff += 2*Math.PI;
-
-        if(diff > 0)    return true;
-        return false;
+        return Predicates.orientation(a, b, c) > 0;
+    }
+
+    //Horizontal segment through v out to the nearest status edge on each
+    //requested side; on the other side it stops at v itself. Skipped, queries
+    //included, when the partition was built without trapezoids.
+    private void addTrapezoid(SweepStatus T, DoublyConnectedEdgeList.Node v, boolean toLeft, boolean toRight) {
+        if (!this.trapezoids)
+            return;
+        double x1 = toLeft ? T.xAt(T_Query(T,v,false), v.y()) : v.x();
+        double x2 = toRight ? T.xAt(T_Query(T,v,true), v.y()) : v.x();
+        trapezoidalization.add(new Edge(new Vertex(x1,v.y()),new Vertex(x2,v.y())));
+    }
+
+    private void setHelper(int e, DoublyConnectedEdgeList.Node v, VertexType type) {
+        if (e >= helper.length) {
+            helper = Arrays.copyOf(helper, Math.max(e+1, 2*helper.length));
+            helperType = Arrays.copyOf(helperType, helper.length);
+        }
+        helper[e] = v;
+        helperType[e] = (byte) type.ordinal();
+    }
+
+    //Status edges are keyed by edge id; the endpoints are cached on insert.
+    private void T_Insert(SweepStatus T, DoublyConnectedEdgeList.DCEL_Edge e) {
+        DoublyConnectedEdgeList.Node a = e.origin(), b = e.next().origin();
+        T.insert(e.id(), a.x(), a.y(), b.x(), b.y());
     }
 
-    private DoublyConnectedEdgeList.DCEL_Edge T_Query(TreeSet<DoublyConnectedEdgeList.DCEL_Edge> T, DoublyConnectedEdgeList.Node v, boolean direction) {
-        DoublyConnectedEdgeList.DCEL_Edge e = new DoublyConnectedEdgeList.DCEL_Edge();
-        e.setOrigin(v);
-        e.setNext(e);
+    private int T_Query(SweepStatus T, DoublyConnectedEdgeList.Node v, boolean direction) {
         if(direction)
-            return T.higher(e);
-        return T.lower(e);
+            return T.rightOf(v.x(), v.y());
+        return T.leftOf(v.x(), v.y());
     }
 
-    private double xQuery(DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b, DoublyConnectedEdgeList.Node c) {
-        return a.x() + (b.x()-a.x())*(a.y()-c.y())/(a.y()-b.y());
+    //Sweep state for the array backed DCEL. Status edges are named by the node
+    //they leave, so the status is keyed and the helper table indexed by node.
+    private static class ArraySweep {
+        private final ArrayDoublyConnectedEdgeList mesh;
+        private final SweepStatus status;
+        private final int[] helper;
+        private final byte[] helperType;
+
+        ArraySweep(ArrayDoublyConnectedEdgeList mesh) {
+            this.mesh = mesh;
+            this.status = new SweepStatus(mesh.nodeCount());
+            this.helper = new int[mesh.nodeCount()];
+            this.helperType = new byte[mesh.nodeCount()];
+        }
+
+        void handleVertex(int v) {
+            int p = mesh.boundaryPrev(v);
+            int q = mesh.boundaryNext(v);
+            boolean prevBelow = mesh.above(v, p);
+            boolean nextBelow = mesh.above(v, q);
+            boolean convex = mesh.orientation(p, v, q) > 0;
+            int e_j;
+
+            if (prevBelow && nextBelow) {
+                if (convex) {
+                    insert(v);
+                    setHelper(v, v, VertexType.START);
+                } else {
+                    e_j = leftOf(v);
+                    mesh.connect(v, helper[e_j]);
+                    setHelper(e_j, v, VertexType.SPLIT);
+                    insert(v);
+                    setHelper(v, v, VertexType.SPLIT);
+                }
+            } else if (!prevBelow && !nextBelow) {
+                connectIfMerge(v, p);
+                status.remove(p);
+                if (!convex) {
+                    e_j = leftOf(v);
+                    connectIfMerge(v, e_j);
+                    setHelper(e_j, v, VertexType.MERGE);
+                }
+            } else if (!prevBelow) {
+                //interior lies to the right of v
+                connectIfMerge(v, p);
+                status.remove(p);
+                insert(v);
+                setHelper(v, v, VertexType.REGULAR);
+            } else {
+                e_j = leftOf(v);
+                connectIfMerge(v, e_j);
+                setHelper(e_j, v, VertexType.REGULAR);
+            }
+        }
+
+        //Same test as the pointer sweep, on the half-edges around v.
+        void emitFinished(int v, Consumer<int[]> pieces) {
+            int start = mesh.incidentEdge(v), e = start;
+            do {
+                if (!mesh.isOutside(e)) {
+                    int u = mesh.origin(mesh.prev(e)), w = mesh.destination(e);
+                    if (mesh.above(u, v) && mesh.above(w, v) && mesh.orientation(u, v, w) > 0)
+                        pieces.accept(faceNodes(e));
+                }
+                e = mesh.twin(mesh.prev(e));
+            } while (e != start);
+        }
+
+        private int[] faceNodes(int start) {
+            int m = 0, e = start;
+            do {
+                m++;
+                e = mesh.next(e);
+            } while (e != start);
+            int[] nodes = new int[m];
+            for (int i = 0; i < m; i++) {
+                nodes[i] = mesh.origin(e);
+                e = mesh.next(e);
+            }
+            return nodes;
+        }
+
+        private void connectIfMerge(int v, int e) {
+            if (helperType[e] == MERGE)
+                mesh.connect(v, helper[e]);
+        }
+
+        private void setHelper(int e, int v, VertexType type) {
+            helper[e] = v;
+            helperType[e] = (byte) type.ordinal();
+        }
+
+        private int leftOf(int v) {
+            int e = status.leftOf(mesh.x(v), mesh.y(v));
+            if (e < 0)
+                throw new IllegalStateException("No edge to the left of vertex " + mesh.index(v));
+            return e;
+        }
+
+        private void insert(int e) {
+            int f = mesh.boundaryNext(e);
+            status.insert(e, mesh.x(e), mesh.y(e), mesh.x(f), mesh.y(f));
+        }
     }
 
     static class Diagonal {
@@ -258,51 +497,10 @@ public class MonotonePartition {
 
         @Override
         public int compare(DoublyConnectedEdgeList.Node v1, DoublyConnectedEdgeList.Node v2) {
-            if (v1.y() > v2.y())
-                return -1;
-            else
-                return 1;
-        }
-    }
-    static class MonotoneEdgeComparator implements Comparator<DoublyConnectedEdgeList.DCEL_Edge> {
-
-        @Override
-        public int compare(DoublyConnectedEdgeList.DCEL_Edge e1, DoublyConnectedEdgeList.DCEL_Edge e2) {
-            DoublyConnectedEdgeList.Node top1 = e1.getNode(true), bot1 = e1.getNode(false);
-            DoublyConnectedEdgeList.Node top2 = e2.getNode(true), bot2 = e2.getNode(false);
-            int mul = 1;
-            if(top1.y()>top2.y())
-            {
-                mul = -1;
-
-                DoublyConnectedEdgeList.Node t = top1;
-                top1 = top2;
-                top2 = t;
-
-                t = bot1;
-                bot1 = bot2;
-                bot2 = t;
-            }
-
-            double midx = top2.x() + (bot2.x()-top2.x())*(top2.y()-top1.y())/(top2.y()-bot2.y());
-
-            if(Math.abs(midx - top1.x()) < 0.0001)
-            {
-                double th1 = Math.atan2(bot1.y()-top1.y(),bot1.x()-top1.x());
-                double th2 = Math.atan2(bot2.y()-top2.y(),bot2.x()-top2.x());
-
-                if(Math.abs(th1 - th2) < 0.001) { 
-                    return 0;
-                }
-
-                if(th1 > th2)   return mul;
-                return -1*mul;
-            }
-
-            if (midx > top1.x())
-                return -1*mul;
-            else
-                return mul;
+            //higher y first, smaller x first on equal y, like the array sweep
+            if (v1.y() != v2.y())
+                return (v1.y() > v2.y()) ? -1 : 1;
+            return Double.compare(v1.x(), v2.x());
         }
     }
 }
\ No newline at end of file
@@ -4,237 +4,732 @@
 // of a monotone polygon in linear time.
 
 import java.util.*;
-
-public class MonotoneTriangulation {
-  private static final double EPSILON = 0.0001;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+public class MonotoneTriangulation implements TriangulationStrategy {
   private ArrayList<DoublyConnectedEdgeList> monotonePolygons;
+  private IdContext ids;  //names the triangles, shared with the partition
+  private SweepDirection direction = SweepDirection.VERTICAL;  //of the partition, null picks per polygon
+
+  //Nodes per task when streaming pieces to a pool; most monotone pieces are
+  //small, and one task each would cost more than triangulating them.
+  static final int STREAM_BATCH = 4096;
 
   public MonotoneTriangulation() {
     monotonePolygons = new ArrayList<DoublyConnectedEdgeList>();
+    ids = new IdContext();
   }
 
   public MonotoneTriangulation(ArrayList<DoublyConnectedEdgeList> monotonePolygons) {
+    this(monotonePolygons, (monotonePolygons == null || monotonePolygons.isEmpty()) ? new IdContext() : monotonePolygons.get(0).ids());
+  }
+
+  public MonotoneTriangulation(ArrayList<DoublyConnectedEdgeList> monotonePolygons, IdContext ids) {
     this.monotonePolygons = monotonePolygons;
+    this.ids = ids;
+  }
+
+  //Sweep direction of the partition run by the triangulate() methods. null
+  //picks the direction with the fewest split and merge vertices for each
+  //polygon, which pays off on long polygons that zigzag across the default
+  //vertical sweep. The triangles are the same kind either way.
+  public void setSweepDirection(SweepDirection direction) {
+    this.direction = direction;
+  }
+
+  private SweepDirection directionFor(DoublyConnectedEdgeList polygon) {
+    return (this.direction != null) ? this.direction : SweepDirection.cheapest(polygon);
+  }
+
+  private SweepDirection directionFor(ArrayDoublyConnectedEdgeList mesh) {
+    return (this.direction != null) ? this.direction : SweepDirection.cheapest(mesh);
+  }
+
+  //Whole polygon entry point: partitions it into monotone pieces first,
+  //without recording trapezoids, then triangulates the pieces. Both run in
+  //the frame of the sweep direction; the triangles are named and built once
+  //the nodes are back in place.
+  public ArrayList<DoublyConnectedEdgeList> triangulate(DoublyConnectedEdgeList polygon) {
+    SweepDirection d = directionFor(polygon);
+    ArrayList<DoublyConnectedEdgeList.Node> turned = d.enter(polygon);
+    DoublyConnectedEdgeList.Node[] corners;
+    try {
+      MonotonePartition monPart = new MonotonePartition(polygon, false);
+      this.monotonePolygons = new ArrayList<DoublyConnectedEdgeList>(monPart.partition().values());
+      this.ids = polygon.ids();
+
+      corners = corners(this.monotonePolygons);
+    } finally {
+      d.leave(turned);
+    }
+
+    ArrayList<DoublyConnectedEdgeList> listOfTriangles = new ArrayList<DoublyConnectedEdgeList>(corners.length / 3);
+    addTriangles(listOfTriangles, corners);
+    return listOfTriangles;
+  }
+
+  //Partitions the mesh in place, so its inner faces are the monotone pieces
+  //afterwards, then triangulates them.
+  public int[] triangulate(ArrayDoublyConnectedEdgeList mesh) {
+    SweepDirection d = directionFor(mesh);
+    new MonotonePartition(mesh, d);
+    return triangulateMonotonePolygon(mesh, d);
   }
 
   public boolean CCW(DoublyConnectedEdgeList.Node one, DoublyConnectedEdgeList.Node two, DoublyConnectedEdgeList.Node three) {
-    double x1,y1,x2,y2; 
-    x1 = two.x()-one.x(); 
-    y1 = two.y()-one.y(); 
-    x2 = three.x()-two.x();
-    y2 = three.y()-two.y();
-    if((x1*y2-x2*y1) < 0.0)
-      return true;
-    return false;
-  }
-
-  public double calculateAngleUtil(DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b, DoublyConnectedEdgeList.Node c) {
-    double x1,y1,x2,y2;
-    x1 = b.x()-a.x();
-    y1 = b.y()-a.y();
-    x2 = c.x()-b.x();
-    y2 = c.y()-b.y();
-    double angle = Math.acos((x1*x2+y1*y2)/(Math.pow(x1*x1+y1*y1,0.5)*Math.pow(x2*x2+y2*y2,0.5)));
-    return angle;
-  }
-
-  public double calculateAngle(DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b, DoublyConnectedEdgeList.Node c) {
-    double x1,y1,x2,y2;
-    x1 = b.x()-a.x();
-    y1 = b.y()-a.y();
-    x2 = c.x()-b.x();
-    y2 = c.y()-b.y();
-
-    double angle = Math.acos((x1*x2+y1*y2)/(Math.pow(x1*x1+y1*y1,0.5)*Math.pow(x2*x2+y2*y2,0.5)));
-    if(Math.abs(x1*y2 - x2*y1) <= EPSILON)
-    angle = Math.PI;
-    else if(x1*y2-y1*x2 < 0.0)
-    angle += Math.PI;
-    else
-    angle = Math.PI - angle;
-    return angle;
+    return Predicates.orientation(one, two, three) < 0;
+  }
+
+  //A corner of the part still to be triangulated is reflex when the diagonal
+  //from pi to the node below it on the stack would leave the polygon.
+  private static boolean isReflex(DoublyConnectedEdgeList.Node below, DoublyConnectedEdgeList.Node top, DoublyConnectedEdgeList.Node pi, boolean leftChain) {
+    int turn = Predicates.orientation(pi, top, below);
+    return leftChain ? turn >= 0 : turn <= 0;
   }
 
   public ArrayList<DoublyConnectedEdgeList> triangulateMonotonePolygon() {
     ArrayList<DoublyConnectedEdgeList> listOfTriangles = new ArrayList<DoublyConnectedEdgeList>();
-    if(this.monotonePolygons != null) {
-      for(DoublyConnectedEdgeList monotoneDCEL: this.monotonePolygons) {
-
-        DoublyConnectedEdgeList.DCEL_Edge temp = monotoneDCEL.rep_edge();
-        DoublyConnectedEdgeList.DCEL_Edge topEdge = monotoneDCEL.rep_edge();
-        DoublyConnectedEdgeList.Node top = temp.origin();
-        temp = temp.next();
-
-        while(temp.id() != monotoneDCEL.rep_edge().id()) {
-          if(temp.origin().y() > top.y()) {
-            top = temp.origin();
-            topEdge = temp;
-          }
-          temp = temp.next();
-        }
-        TreeMap<Integer,Boolean> isLeft = new TreeMap<Integer,Boolean>();
-        TreeMap<Integer,Boolean> isReflex = new TreeMap<Integer,Boolean>();
-        temp = topEdge;
+    if(this.monotonePolygons != null)
+      addTriangles(listOfTriangles, corners(this.monotonePolygons));
+    return listOfTriangles;
+  }
 
-        TreeMap<Integer,Double> interiorAngle = new TreeMap<Integer,Double>();
-        DoublyConnectedEdgeList.Node prev = topEdge.origin(),current, prevAngleNode;
-        isLeft.put(topEdge.origin().id(),true);
-        isReflex.put(topEdge.origin().id(),false);
-        interiorAngle.put(temp.origin().id(),calculateAngle(temp.prev().origin(),temp.origin(),temp.next().origin()));
-        temp = temp.next();
+  //Parallel version for pieces that are already partitioned. Pieces are
+  //triangulated on the pool in ranges of about equal node count, each into
+  //its own slice of the corner array, and the triangles are named and built
+  //on this thread after the join, so the result is the same as above.
+  public ArrayList<DoublyConnectedEdgeList> triangulateMonotonePolygon(ForkJoinPool pool) {
+    ArrayList<DoublyConnectedEdgeList> listOfTriangles = new ArrayList<DoublyConnectedEdgeList>();
+    if(this.monotonePolygons == null)
+      return listOfTriangles;
+
+    DoublyConnectedEdgeList[] pieces = this.monotonePolygons.toArray(new DoublyConnectedEdgeList[0]);
+    int[] offset = new int[pieces.length + 1];
+    for(int i = 0; i < pieces.length; i++)
+      offset[i+1] = offset[i] + pieces[i].faceSize() - 2;
+    DoublyConnectedEdgeList.Node[] corners = new DoublyConnectedEdgeList.Node[3*offset[pieces.length]];
+
+    pool.invoke(new PieceRange(offset, 0, pieces.length, grain(pool, offset), (lo, hi) -> {
+      NodeScratch scratch = new NodeScratch(0);
+      for(int i = lo; i < hi; i++) {
+        scratch.ensure(offset[i+1] - offset[i] + 2);
+        monotoneTriangles(pieces[i], scratch, corners, offset[i]);
+      }
+    }));
+    addTriangles(listOfTriangles, corners);
+    return listOfTriangles;
+  }
 
-        while(temp.origin().id() != topEdge.origin().id()) {
+  //Names the triangles in order and builds their DCELs, three corners each.
+  //Only this step touches the IdContext, so it stays on the calling thread.
+  private void addTriangles(ArrayList<DoublyConnectedEdgeList> listOfTriangles, DoublyConnectedEdgeList.Node[] corners) {
+    ArrayList<DoublyConnectedEdgeList.Triangle> triangles = new ArrayList<DoublyConnectedEdgeList.Triangle>(corners.length / 3);
+    for(int c = 0; c < corners.length; c += 3) {
+      triangles.add(new DoublyConnectedEdgeList.Triangle(corners[c],corners[c+1],corners[c+2],this.ids.DCEL_count()));
+      this.ids.nextDCELId();
+    }
+    for(DoublyConnectedEdgeList.Triangle triangle: triangles) {
+      listOfTriangles.add(triangle.convertToDCEL(this.ids));
+    }
+  }
 
-          if(temp.origin().y() > temp.next().origin().y()) {
-            isLeft.put(temp.origin().id(),true);
-          }
-          else {
-            isLeft.put(temp.origin().id(),false);
-          }
+  //Corners of the triangles of all the pieces, in piece order. A piece of m
+  //nodes has m-2 triangles, so the result is allocated once up front, and the
+  //work arrays are shared by the pieces.
+  private static DoublyConnectedEdgeList.Node[] corners(Collection<DoublyConnectedEdgeList> pieces) {
+    int total = 0, largest = 0;
+    for(DoublyConnectedEdgeList piece: pieces) {
+      int m = piece.faceSize();
+      total += m-2;
+      largest = Math.max(largest, m);
+    }
+    DoublyConnectedEdgeList.Node[] corners = new DoublyConnectedEdgeList.Node[3*total];
+    NodeScratch scratch = new NodeScratch(largest);
+    int count = 0;
+    for(DoublyConnectedEdgeList piece: pieces)
+      count = monotoneTriangles(piece, scratch, corners, count);
+    return corners;
+  }
 
-          interiorAngle.put(temp.origin().id(),calculateAngle(temp.prev().origin(),temp.origin(),temp.next().origin()));
-          current = temp.origin();
-          temp = temp.next();
+  //Writes the corners of the m-2 triangles of one monotone piece to corners
+  //from triangle index count on and returns the new count. Reads the piece
+  //and nothing else, so pieces can be handled on any thread, and allocates
+  //nothing: chain sides and the stack live in the scratch arrays, indexed by
+  //position in sweep order.
+  private static int monotoneTriangles(DoublyConnectedEdgeList monotoneDCEL, NodeScratch scratch, DoublyConnectedEdgeList.Node[] corners, int count) {
+    int m = monotoneDCEL.faceSize();
+    DoublyConnectedEdgeList.Node[] piece = scratch.piece, order = scratch.order;
+    boolean[] isLeft = scratch.left;
+    int[] stack = scratch.stack;
+    int top = 0, bottom = 0;
+    DoublyConnectedEdgeList.DCEL_Edge temp = monotoneDCEL.rep_edge();
+    for(int i = 0; i < m; i++) {
+      piece[i] = temp.origin();
+      if(above(piece[i], piece[top]))
+        top = i;
+      if(above(piece[bottom], piece[i]))
+        bottom = i;
+      temp = temp.next();
+    }
 
-          if(interiorAngle.get(current.id()) >= (Math.PI-EPSILON))
-          isReflex.put(current.id(),true);
-          else
-          isReflex.put(current.id(),false);
+    //Both chains from the top down to the bottom are already sorted, forward
+    //the left one and backward the right one, so a single merge puts the
+    //piece in sweep order in linear time. The bottom counts as right.
+    order[0] = piece[top];
+    isLeft[0] = true;
+    int l = (top+1) % m, r = (top+m-1) % m, k = 1;
+    while(l != bottom || r != bottom) {
+      if(r == bottom || (l != bottom && above(piece[l], piece[r]))) {
+        order[k] = piece[l];
+        isLeft[k] = true;
+        l = (l+1) % m;
+      }
+      else {
+        order[k] = piece[r];
+        isLeft[k] = false;
+        r = (r+m-1) % m;
+      }
+      k++;
+    }
+    order[k] = piece[bottom];
+    isLeft[k] = false;
+
+    int sp = 0;
+    DoublyConnectedEdgeList.Node pi; //current node
+
+    stack[sp++] = 0;
+    stack[sp++] = 1;
+    for(int i = 2; i < m; i++) {
+      pi = order[i];
+      int ph = stack[sp-1]; //previous
+
+      if(isLeft[i] == isLeft[ph]) {
+        while(sp >= 2 && !isReflex(order[stack[sp-2]], order[ph], pi, isLeft[i])) {
+          int tempNode = stack[--sp];
+          ph = stack[sp-1];
 
-          prev = current;
+          if(isLeft[i])
+            count = corner(corners, count, pi, order[ph], order[tempNode]);
+          else
+            count = corner(corners, count, pi, order[tempNode], order[ph]);
         }
 
-        PriorityQueue<DoublyConnectedEdgeList.Node> pQueue = new PriorityQueue<DoublyConnectedEdgeList.Node>(1, new MonotoneNodeComparator());
-        temp = topEdge;
-        pQueue.add(temp.origin());
-        temp = temp.next();
-        while(temp.origin().id() != topEdge.origin().id()) {
-          pQueue.add(temp.origin());
-          temp = temp.next();
+        stack[sp++] = i;
+      }
+      else {
+        int nodeToBePushed = stack[sp-1];
+
+        while(sp >= 2) {
+          int tempNode = stack[--sp];
+          if(isLeft[i])
+            count = corner(corners, count, pi, order[tempNode], order[stack[sp-1]]);
+          else
+            count = corner(corners, count, pi, order[stack[sp-1]], order[tempNode]);
         }
+        sp = 0;
 
-        Stack<DoublyConnectedEdgeList.Node> stack = new Stack<DoublyConnectedEdgeList.Node>();
-        ArrayList<DoublyConnectedEdgeList.Triangle> triangles = new ArrayList<DoublyConnectedEdgeList.Triangle>();
-        DoublyConnectedEdgeList.Node ph,pi,tempNode; //ph is previous,pi is current
-
-        ph = pQueue.poll();
-        stack.push(ph);
-        ph = pQueue.poll();
-        stack.push(ph);
-        while(!pQueue.isEmpty()) {
-          pi = pQueue.poll();
-          ph = stack.peek();
-
-          if((isLeft.get(pi.id()) && isLeft.get(ph.id())) || (!isLeft.get(ph.id()) && !isLeft.get(pi.id()))) {
-            while(!isReflex.get(ph.id()) && stack.size() >= 2){
-              tempNode = stack.peek();
-              stack.pop();
-              ph = stack.peek();
-
-              if(isLeft.get(pi.id())){
-                triangles.add(new DoublyConnectedEdgeList.Triangle(pi,ph,tempNode,DoublyConnectedEdgeList.DCEL_count()));
-              }
-              else {
-                triangles.add(new DoublyConnectedEdgeList.Triangle(pi,tempNode,ph,DoublyConnectedEdgeList.DCEL_count()));
-              }
-
-              if(isLeft.get(pi.id())){
-                double deltaAnglePh = Math.PI -calculateAngleUtil(pi,ph,tempNode);
-                interiorAngle.put(ph.id(),interiorAngle.get(ph.id())-deltaAnglePh);
-                double deltaAnglePi = Math.PI - deltaAnglePh - interiorAngle.get(tempNode.id());
-                interiorAngle.put(pi.id(),interiorAngle.get(pi.id())-deltaAnglePi);
-              }else {
-                double deltaAnglePh = Math.PI -calculateAngleUtil(tempNode,ph,pi);
-                interiorAngle.put(ph.id(),interiorAngle.get(ph.id())-deltaAnglePh);
-                double deltaAnglePi = Math.PI - deltaAnglePh - interiorAngle.get(tempNode.id());
-                interiorAngle.put(pi.id(),interiorAngle.get(pi.id())-deltaAnglePi);
-              }
-
-              if(interiorAngle.get(ph.id()) <= (Math.PI - EPSILON)) {
-                isReflex.put(ph.id(),false);
-              }
-
-              if(interiorAngle.get(pi.id()) <= (Math.PI - EPSILON)) {
-                isReflex.put(pi.id(),false);
-              }
-
-              DoublyConnectedEdgeList.incrementDCELCount();
-            }
-
-            stack.push(pi);
-          }
-          else {
-            boolean angleChangeFlag = true;
-            DoublyConnectedEdgeList.Node nodeToBePushed = null;
-
-            while(stack.size() >= 2) {
-              tempNode = stack.peek();
-
-              if(angleChangeFlag == true)
-                nodeToBePushed = tempNode;
-              stack.pop();
-              if(isLeft.get(pi.id())) {
-                triangles.add(new DoublyConnectedEdgeList.Triangle(pi,tempNode,stack.peek(),DoublyConnectedEdgeList.DCEL_count()));
-              }
-              else {
-                triangles.add(new DoublyConnectedEdgeList.Triangle(pi,stack.peek(),tempNode,DoublyConnectedEdgeList.DCEL_count()));
-              }
-
-              if(angleChangeFlag) {
-
-                if(isLeft.get(pi.id())) {
-                  double deltaAngleTemp = Math.PI - calculateAngleUtil(pi,tempNode,stack.peek());
-                  interiorAngle.put(tempNode.id(),interiorAngle.get(tempNode.id())-deltaAngleTemp);
-                  double deltaAnglePi = Math.PI - calculateAngleUtil(stack.peek(),pi,tempNode);
-                  interiorAngle.put(pi.id(),interiorAngle.get(pi.id())-deltaAnglePi);
-                }
-                else {
-                  double deltaAngleTemp = Math.PI - calculateAngleUtil(stack.peek(), tempNode, pi);
-                  interiorAngle.put(tempNode.id(),interiorAngle.get(tempNode.id())-deltaAngleTemp);
-                  double deltaAnglePi = Math.PI - calculateAngleUtil(tempNode, pi, stack.peek());
-                  interiorAngle.put(pi.id(),interiorAngle.get(pi.id())-deltaAnglePi);
-                }
-
-                if(interiorAngle.get(tempNode.id()) <= (Math.PI-EPSILON)) {
-                  isReflex.put(tempNode.id(),false);
-                }
-
-                if(interiorAngle.get(pi.id()) <= (Math.PI-EPSILON)) {
-                  isReflex.put(pi.id(),false);
-                }
-
-                angleChangeFlag = false;
-              }
-
-              DoublyConnectedEdgeList.incrementDCELCount();
-            }
-            stack.pop();
-
-            if(nodeToBePushed != null) {
-              stack.push(nodeToBePushed);
-            }
-
-            stack.push(pi);
-            ph = pi;  //Update the previous node
+        stack[sp++] = nodeToBePushed;
+        stack[sp++] = i;
+      }
+    }
+    return count;
+  }
+
+  private static int corner(DoublyConnectedEdgeList.Node[] corners, int t, DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b, DoublyConnectedEdgeList.Node c) {
+    corners[3*t] = a;
+    corners[3*t+1] = b;
+    corners[3*t+2] = c;
+    return t+1;
+  }
+
+  //Output mode that keeps a single mesh. The diagonals are inserted into the
+  //monotone pieces themselves with connect(), so the triangles share nodes and
+  //half-edges and their twin links give the adjacency directly. The pieces are
+  //split in place; every returned DCEL is one triangle face of that mesh.
+  public ArrayList<DoublyConnectedEdgeList> triangulateInPlace() {
+    ArrayList<DoublyConnectedEdgeList> listOfTriangles = new ArrayList<DoublyConnectedEdgeList>();
+    if(this.monotonePolygons == null)
+      return listOfTriangles;
+
+    HashMap<Integer, DoublyConnectedEdgeList> faces = new HashMap<Integer, DoublyConnectedEdgeList>();
+    for(DoublyConnectedEdgeList monotoneDCEL: this.monotonePolygons) {
+      faces.put(monotoneDCEL.id(), monotoneDCEL);
+      listOfTriangles.add(monotoneDCEL);
+    }
+
+    NodeScratch scratch = new NodeScratch(0);
+    for(DoublyConnectedEdgeList monotoneDCEL: this.monotonePolygons) {
+      int m = monotoneDCEL.faceSize();
+      if(m <= 3)
+        continue;
+
+      scratch.ensure(m);
+      DoublyConnectedEdgeList.Node[] piece = scratch.piece;
+      int top = 0, bottom = 0;
+      DoublyConnectedEdgeList.DCEL_Edge e = monotoneDCEL.rep_edge();
+      for(int i = 0; i < m; i++) {
+        piece[i] = e.origin();
+        if(above(piece[i], piece[top]))
+          top = i;
+        if(above(piece[bottom], piece[i]))
+          bottom = i;
+        e = e.next();
+      }
+
+      //walking forward from the top is the left chain of a counter clockwise
+      //face; the topmost corner is convex, so its turn gives the orientation
+      boolean forwardIsLeft = Predicates.orientation(piece[(top+m-1) % m], piece[top], piece[(top+1) % m]) > 0;
+      DoublyConnectedEdgeList.Node[] order = scratch.order;
+      boolean[] left = scratch.left;
+      order[0] = piece[top];
+      left[0] = forwardIsLeft;
+      int l = (top+1) % m, r = (top+m-1) % m, k = 1;
+      while(l != bottom || r != bottom) {
+        if(r == bottom || (l != bottom && above(piece[l], piece[r]))) {
+          order[k] = piece[l];
+          left[k] = forwardIsLeft;
+          l = (l+1) % m;
+        }
+        else {
+          order[k] = piece[r];
+          left[k] = !forwardIsLeft;
+          r = (r+m-1) % m;
+        }
+        k++;
+      }
+      order[k] = piece[bottom];
+      left[k] = !forwardIsLeft;
+
+      int[] stack = scratch.stack;
+      int sp = 0;
+      stack[sp++] = 0;
+      stack[sp++] = 1;
+      for(int j = 2; j < m-1; j++) {
+        if(left[j] != left[stack[sp-1]]) {
+          while(sp > 1)
+            split(faces, listOfTriangles, order[j], order[stack[--sp]]);
+          sp = 0;
+          stack[sp++] = j-1;
+          stack[sp++] = j;
+        }
+        else {
+          int last = stack[--sp];
+          while(sp > 0) {
+            int turn = Predicates.orientation(order[j], order[last], order[stack[sp-1]]);
+            if(left[j] ? turn >= 0 : turn <= 0)
+              break;
+            split(faces, listOfTriangles, order[j], order[stack[sp-1]]);
+            last = stack[--sp];
           }
+          stack[sp++] = last;
+          stack[sp++] = j;
         }
+      }
 
-        for(DoublyConnectedEdgeList.Triangle triangle: triangles) {
-          listOfTriangles.add(triangle.convertToDCEL());
+      for(int i = 1; i < sp-1; i++)
+        split(faces, listOfTriangles, order[m-1], order[stack[i]]);
+    }
+    return listOfTriangles;
+  }
+
+  //Inserts the diagonal a-b into whichever face of the mesh holds it now.
+  private void split(HashMap<Integer, DoublyConnectedEdgeList> faces, ArrayList<DoublyConnectedEdgeList> listOfTriangles, DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b) {
+    DoublyConnectedEdgeList face = faces.get(a.IncidentEdge(b).DCEL_id());
+    DoublyConnectedEdgeList created = face.connect(a, b);
+    faces.put(created.id(), created);
+    listOfTriangles.add(created);
+  }
+
+  //Sweep order of the partition: higher y first, smaller x first on equal y.
+  //The pieces are only monotone with respect to this order.
+  private static boolean above(DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b) {
+    return a.y() > b.y() || (a.y() == b.y() && a.x() < b.x());
+  }
+
+  //Triangulates every inner face of an array backed DCEL that has already been
+  //split into monotone pieces. Triangles come back packed as three node indices
+  //each, in counter clockwise order. Scratch arrays are shared by all pieces.
+  public int[] triangulateMonotonePolygon(ArrayDoublyConnectedEdgeList mesh) {
+    int n = mesh.nodeCount();
+    int[] triangles = new int[3*(n-2)];
+    int count = 0;
+    int[] piece = new int[n];
+    Scratch scratch = new Scratch(n);
+
+    int faces = mesh.faceCount();
+    for(int f = 0; f < faces; f++) {
+      if(f == ArrayDoublyConnectedEdgeList.OUTER_FACE)
+        continue;
+
+      int m = 0;
+      int start = mesh.faceEdge(f), e = start;
+      do {
+        piece[m++] = mesh.origin(e);
+        e = mesh.next(e);
+      } while(e != start);
+
+      if(3*(count+m-2) > triangles.length)
+        triangles = Arrays.copyOf(triangles, Math.max(2*triangles.length, 3*(count+m-2)));
+      count = triangulatePiece(mesh, piece, m, scratch, triangles, count);
+    }
+    return Arrays.copyOf(triangles, 3*count);
+  }
+
+  //Same for pieces that are monotone along another sweep direction, as left
+  //by MonotonePartition(mesh, direction).
+  public int[] triangulateMonotonePolygon(ArrayDoublyConnectedEdgeList mesh, SweepDirection direction) {
+    direction.enter(mesh);
+    try {
+      return triangulateMonotonePolygon(mesh);
+    } finally {
+      direction.leave(mesh);
+    }
+  }
+
+  //Parallel version of triangulateMonotonePolygon(mesh). The faces are
+  //listed on this thread, which also settles the mesh's lazy face labels,
+  //and every face gets the slice of the output the sequential run gives it.
+  public int[] triangulateMonotonePolygon(ArrayDoublyConnectedEdgeList mesh, ForkJoinPool pool) {
+    int faces = mesh.faceCount();
+    int[] start = new int[faces];
+    int[] offset = new int[faces + 1];
+    int count = 0;
+    for(int f = 0; f < faces; f++) {
+      if(f == ArrayDoublyConnectedEdgeList.OUTER_FACE)
+        continue;
+      int m = 0, e = start[count] = mesh.faceEdge(f);
+      do {
+        m++;
+        e = mesh.next(e);
+      } while(e != start[count]);
+      offset[count+1] = offset[count] + m - 2;
+      count++;
+    }
+    int[] triangles = new int[3*offset[count]];
+
+    pool.invoke(new PieceRange(offset, 0, count, grain(pool, offset), (lo, hi) -> {
+      int largest = 0;
+      for(int i = lo; i < hi; i++)
+        largest = Math.max(largest, offset[i+1] - offset[i] + 2);
+      int[] piece = new int[largest];
+      Scratch scratch = new Scratch(largest);
+      for(int i = lo; i < hi; i++) {
+        int m = 0, e = start[i];
+        do {
+          piece[m++] = mesh.origin(e);
+          e = mesh.next(e);
+        } while(e != start[i]);
+        triangulatePiece(mesh, piece, m, scratch, triangles, offset[i]);
+      }
+    }));
+    return triangles;
+  }
+
+  //Nodes a range of pieces should hold before it is split no further: a few
+  //ranges per worker, so that big pieces do not leave workers idle.
+  private static int grain(ForkJoinPool pool, int[] offset) {
+    int pieces = offset.length - 1;
+    int nodes = offset[pieces] + 2*pieces;
+    return Math.max(nodes / (4*pool.getParallelism()), 1024);
+  }
+
+  //Partitions and triangulates the polygon at once: monotone pieces are
+  //handed to the pool as soon as the sweep finishes them, a batch of about
+  //STREAM_BATCH nodes per task, so they are triangulated while the sweep
+  //goes on. The triangles are joined in the
+  //order the pieces were finished and named on this thread afterwards, so
+  //the result does not depend on how the pool schedules them.
+  public ArrayList<DoublyConnectedEdgeList> triangulate(DoublyConnectedEdgeList polygon, ExecutorService pool) {
+    ArrayList<Future<DoublyConnectedEdgeList.Node[]>> batches = new ArrayList<Future<DoublyConnectedEdgeList.Node[]>>();
+    ArrayList<DoublyConnectedEdgeList> batch = new ArrayList<DoublyConnectedEdgeList>();
+    int[] size = new int[1];
+    ArrayList<DoublyConnectedEdgeList.Node[]> corners = new ArrayList<DoublyConnectedEdgeList.Node[]>();
+    SweepDirection d = directionFor(polygon);
+    ArrayList<DoublyConnectedEdgeList.Node> turned = d.enter(polygon);
+    try {
+      new MonotonePartition(polygon, false, piece -> {
+        batch.add(piece);
+        size[0] += piece.faceSize();
+        if(size[0] >= STREAM_BATCH) {
+          batches.add(submit(pool, batch));
+          batch.clear();
+          size[0] = 0;
         }
+      });
+      if(!batch.isEmpty())
+        batches.add(submit(pool, batch));
+
+      for(Future<DoublyConnectedEdgeList.Node[]> done: batches) {
+        corners.add(join(done));
       }
+    } finally {
+      settle(batches);
+      d.leave(turned);
+    }
+    this.monotonePolygons = null;
+    this.ids = polygon.ids();
+
+    ArrayList<DoublyConnectedEdgeList> listOfTriangles = new ArrayList<DoublyConnectedEdgeList>();
+    for(DoublyConnectedEdgeList.Node[] part: corners) {
+      addTriangles(listOfTriangles, part);
     }
     return listOfTriangles;
   }
 
-  static class MonotoneNodeComparator implements Comparator<DoublyConnectedEdgeList.Node> {
+  private static Future<DoublyConnectedEdgeList.Node[]> submit(ExecutorService pool, ArrayList<DoublyConnectedEdgeList> batch) {
+    List<DoublyConnectedEdgeList> pieces = new ArrayList<DoublyConnectedEdgeList>(batch);
+    return pool.submit(() -> corners(pieces));
+  }
+
+  //Same for an array backed polygon. Workers only read node coordinates,
+  //which the sweep never writes. Pieces come back in the order they were
+  //finished, which is not the face order triangulate(mesh) uses.
+  public int[] triangulate(ArrayDoublyConnectedEdgeList mesh, ExecutorService pool) {
+    ArrayList<Future<int[]>> batches = new ArrayList<Future<int[]>>();
+    ArrayList<int[]> batch = new ArrayList<int[]>();
+    int[] size = new int[1];
+    int count = 0;
+    ArrayList<int[]> done = new ArrayList<int[]>();
+    SweepDirection d = directionFor(mesh);
+    d.enter(mesh);
+    try {
+      new MonotonePartition(mesh, piece -> {
+        batch.add(piece);
+        size[0] += piece.length;
+        if(size[0] >= STREAM_BATCH) {
+          batches.add(submit(pool, mesh, batch, size[0]));
+          batch.clear();
+          size[0] = 0;
+        }
+      });
+      if(!batch.isEmpty())
+        batches.add(submit(pool, mesh, batch, size[0]));
+
+      for(Future<int[]> part: batches) {
+        done.add(join(part));
+        count += done.get(done.size()-1).length;
+      }
+    } finally {
+      settle(batches);
+      d.leave(mesh);
+    }
+    int[] triangles = new int[count];
+    count = 0;
+    for(int[] part: done) {
+      System.arraycopy(part, 0, triangles, count, part.length);
+      count += part.length;
+    }
+    return triangles;
+  }
+
+  //A piece of m nodes has m-2 triangles, so a batch of pieces holding size
+  //nodes in all has size - 2*pieces of them.
+  private static Future<int[]> submit(ExecutorService pool, ArrayDoublyConnectedEdgeList mesh, ArrayList<int[]> batch, int size) {
+    int[][] pieces = batch.toArray(new int[0][]);
+    return pool.submit(() -> {
+      int max = 0;
+      for(int[] piece: pieces)
+        max = Math.max(max, piece.length);
+      Scratch scratch = new Scratch(max);
+      int[] triangles = new int[3*(size - 2*pieces.length)];
+      int count = 0;
+      for(int[] piece: pieces)
+        count = triangulatePiece(mesh, piece, piece.length, scratch, triangles, count);
+      return triangles;
+    });
+  }
+
+  //Waits for every task still running, whatever its outcome. A failed run
+  //must not return, or turn the coordinates back, while workers are still
+  //reading them.
+  private static void settle(List<? extends Future<?>> tasks) {
+    boolean interrupted = false;
+    for(Future<?> task: tasks) {
+      while(!task.isDone()) {
+        try {
+          task.get();
+        } catch(InterruptedException e) {
+          interrupted = true;
+        } catch(ExecutionException | CancellationException e) {
+          //reported by join(), or superseded by the sweep's own failure
+        }
+      }
+    }
+    if(interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  private static <T> T join(Future<T> piece) {
+    try {
+      return piece.get();
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while triangulating", e);
+    } catch(ExecutionException e) {
+      throw new IllegalStateException("Triangulating a monotone piece failed", e.getCause());
+    }
+  }
+
+  //Writes the m-2 triangles of piece[0..m) to triangles from triangle index
+  //count on, which must have room for them, and returns the new count.
+  private static int triangulatePiece(ArrayDoublyConnectedEdgeList mesh, int[] piece, int m, Scratch scratch, int[] triangles, int count) {
+    int[] order = scratch.order, stack = scratch.stack;
+    boolean[] left = scratch.left;
+    int top = 0, bottom = 0;
+    for(int i = 1; i < m; i++) {
+      if(mesh.above(piece[i], piece[top]))
+        top = i;
+      if(mesh.above(piece[bottom], piece[i]))
+        bottom = i;
+    }
+
+    //walking forward from the top is the left chain, backward the right one
+    order[0] = piece[top];
+    left[0] = true;
+    int l = (top+1) % m, r = (top+m-1) % m, k = 1;
+    while(l != bottom || r != bottom) {
+      if(r == bottom || (l != bottom && mesh.above(piece[l], piece[r]))) {
+        order[k] = piece[l];
+        left[k] = true;
+        l = (l+1) % m;
+      }
+      else {
+        order[k] = piece[r];
+        left[k] = false;
+        r = (r+m-1) % m;
+      }
+      k++;
+    }
+    order[k] = piece[bottom];
+    left[k] = false;
+
+    int sp = 0;
+    stack[sp++] = 0;
+    stack[sp++] = 1;
+    for(int j = 2; j < m-1; j++) {
+      if(left[j] != left[stack[sp-1]]) {
+        while(sp > 1) {
+          int a = stack[--sp];
+          addTriangle(mesh, triangles, count++, order[j], order[a], order[stack[sp-1]]);
+        }
+        sp = 0;
+        stack[sp++] = j-1;
+        stack[sp++] = j;
+      }
+      else {
+        int last = stack[--sp];
+        while(sp > 0) {
+          int turn = mesh.orientation(order[j], order[last], order[stack[sp-1]]);
+          if(left[j] ? turn >= 0 : turn <= 0)
+            break;
+          addTriangle(mesh, triangles, count++, order[j], order[last], order[stack[sp-1]]);
+          last = stack[--sp];
+        }
+        stack[sp++] = last;
+        stack[sp++] = j;
+      }
+    }
+
+    while(sp > 1) {
+      int a = stack[--sp];
+      addTriangle(mesh, triangles, count++, order[m-1], order[a], order[stack[sp-1]]);
+    }
+    return count;
+  }
+
+  private static void addTriangle(ArrayDoublyConnectedEdgeList mesh, int[] triangles, int t, int a, int b, int c) {
+    if(mesh.orientation(a, b, c) < 0) {
+      int swap = b;
+      b = c;
+      c = swap;
+    }
+    triangles[3*t] = a;
+    triangles[3*t+1] = b;
+    triangles[3*t+2] = c;
+  }
+
+  //Work on pieces lo..hi-1 of a parallel run. offset[i] is the first triangle
+  //of piece i and piece i has offset[i+1]-offset[i]+2 nodes, so a range is
+  //halved by node count until it holds at most grain nodes or one piece.
+  private static class PieceRange extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] offset;
+    private final int lo, hi, grain;
+    private final PieceWork work;
+
+    PieceRange(int[] offset, int lo, int hi, int grain, PieceWork work) {
+      this.offset = offset;
+      this.lo = lo;
+      this.hi = hi;
+      this.grain = grain;
+      this.work = work;
+    }
+
+    private int nodesBefore(int i) {
+      return offset[i] + 2*i;
+    }
+
+    @Override
+    protected void compute() {
+      if(hi - lo <= 1 || nodesBefore(hi) - nodesBefore(lo) <= grain) {
+        work.run(lo, hi);
+        return;
+      }
+      int half = nodesBefore(lo) + (nodesBefore(hi) - nodesBefore(lo)) / 2;
+      int a = lo+1, b = hi-1;
+      while(a < b) {
+        int mid = (a+b) >>> 1;
+        if(nodesBefore(mid) < half)
+          a = mid+1;
+        else
+          b = mid;
+      }
+      invokeAll(new PieceRange(offset, lo, a, grain, work), new PieceRange(offset, a, hi, grain, work));
+    }
+  }
+
+  private interface PieceWork {
+    void run(int lo, int hi);
+  }
+
+  //Per piece work arrays of the pointer path, grown to the largest piece.
+  private static class NodeScratch {
+    DoublyConnectedEdgeList.Node[] piece, order;
+    boolean[] left;
+    int[] stack;
+
+    NodeScratch(int m) {
+      allocate(m);
+    }
+
+    void ensure(int m) {
+      if(m > stack.length)
+        allocate(Math.max(m, 2*stack.length));
+    }
+
+    private void allocate(int m) {
+      piece = new DoublyConnectedEdgeList.Node[m];
+      order = new DoublyConnectedEdgeList.Node[m];
+      left = new boolean[m];
+      stack = new int[m];
+    }
+  }
+
+  //Per piece work arrays, sized for the largest piece they will see.
+  private static class Scratch {
+    final int[] order, stack;
+    final boolean[] left;
 
-		@Override
-		public int compare(DoublyConnectedEdgeList.Node v1, DoublyConnectedEdgeList.Node v2) {
-			if ((v1.y() > v2.y()) || (v1.y() == v2.y() && v1.x() > v2.x()))
-				return -1;  //return -1 if v1 needs to come before v2 in the final ordering
-			else
-				return 1;
-		}
-	}
+    Scratch(int n) {
+      order = new int[n];
+      stack = new int[n];
+      left = new boolean[n];
+    }
+  }
 }
@@ -0,0 +1,9 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// NodeConsumer.java - Callback used by the DCEL cursors. Nodes are handed over
+// as plain values, so walking a face or a vertex star creates no objects.
+
+@FunctionalInterface
+public interface NodeConsumer {
+    void accept(int nodeId, double x, double y);
+}
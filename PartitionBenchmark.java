@@ -0,0 +1,66 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// PartitionBenchmark.java - This file contains a command line benchmark that
+// compares the two monotone partition engines, the MonotonePartition sweep and
+// SeidelPartition, on large random star shaped polygons. Both run on the array
+// backed DCEL, so the numbers measure the partition and not object churn.
+//
+// Usage: java PartitionBenchmark [n ...]   (default 10000 100000 1000000)
+
+import java.util.Random;
+
+public class PartitionBenchmark {
+    private static final int WARMUP = 2;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        int[] sizes = {10000, 100000, 1000000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++)
+                sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("%10s %14s %14s %12s %12s%n", "vertices", "sweep ms", "seidel ms", "sweep faces", "seidel faces");
+        for (int n : sizes) {
+            double[][] polygon = starPolygon(n, n);
+            double[] sweep = time(polygon, n, false);
+            double[] seidel = time(polygon, n, true);
+            System.out.printf("%10d %14.1f %14.1f %12d %12d%n", n, sweep[0], seidel[0], (int) sweep[1], (int) seidel[1]);
+        }
+    }
+
+    //Median time over RUNS partitions of a fresh mesh, and the face count.
+    private static double[] time(double[][] polygon, int n, boolean seidel) {
+        double[] ms = new double[RUNS];
+        int faces = 0;
+        for (int run = -WARMUP; run < RUNS; run++) {
+            ArrayDoublyConnectedEdgeList mesh = new ArrayDoublyConnectedEdgeList(polygon[0], polygon[1], n);
+            long start = System.nanoTime();
+            if (seidel)
+                new SeidelPartition(mesh);
+            else
+                new MonotonePartition(mesh);
+            long end = System.nanoTime();
+            if (run >= 0)
+                ms[run] = (end - start) / 1e6;
+            faces = mesh.faceCount() - 1;
+        }
+        java.util.Arrays.sort(ms);
+        return new double[] {ms[RUNS / 2], faces};
+    }
+
+    //Vertices at evenly spaced angles with random radii: simple, counter
+    //clockwise, and with about a third of its vertices split or merge.
+    private static double[][] starPolygon(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            double radius = 1000 + rand.nextDouble() * 900;
+            xs[i] = radius * Math.cos(angle);
+            ys[i] = radius * Math.sin(angle);
+        }
+        return new double[][] {xs, ys};
+    }
+}
@@ -0,0 +1,287 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// PolygonValidator.java - This file contains the check run on the raw input
+// before any DCEL is built. It rejects rings with too few or repeated vertices,
+// rings that double back on themselves, edges that cross or touch, and holes
+// that are not inside the outer ring, in O(n log n) with a Shamos-Hoey sweep.
+// Every rejection names the vertices or edges at fault.
+
+import java.util.ArrayList;
+
+public final class PolygonValidator {
+
+    private static final int NONE = -1;
+
+    private final double[] xs, ys;
+    private final int[] labels;
+    private final int[] ring_end;
+    private final int[] ring, next, prev;  //ring of every vertex and its neighbours on it
+    private boolean[] ccw;                 //whether each ring is counter clockwise
+    private final int n;
+
+    private PolygonValidator(double[] xs, double[] ys, int[] labels, int[] ring_end) {
+      this.xs = xs;
+      this.ys = ys;
+      this.labels = labels;
+      this.ring_end = ring_end;
+      this.n = ring_end[ring_end.length-1];
+      this.ring = new int[n];
+      this.next = new int[n];
+      this.prev = new int[n];
+      for(int k = 0, lo = 0; k < ring_end.length; lo = ring_end[k++]) {
+        for(int i = lo; i < ring_end[k]; i++) {
+          ring[i] = k;
+          next[i] = (i+1 == ring_end[k]) ? lo : i+1;
+          prev[i] = (i == lo) ? ring_end[k]-1 : i-1;
+        }
+      }
+    }
+
+    //Why the polygon cannot be partitioned, or null if it is simple. The outer
+    //ring comes first, holes follow, laid out like ArrayDoublyConnectedEdgeList
+    //takes them. Vertices are named by their 1 based position. With strict,
+    //a vertex lying straight between its neighbours is rejected as well;
+    //otherwise only a ring that turns back on itself is.
+    public static String check(double[] xs, double[] ys, int[] ring_end, boolean strict) {
+      int n = ring_end[ring_end.length-1];
+      int[] labels = new int[n];
+      for(int i = 0; i < n; i++)
+        labels[i] = i + 1;
+      return new PolygonValidator(xs, ys, labels, ring_end).check(strict);
+    }
+
+    public static String check(double[] xs, double[] ys, int n) {
+      return check(xs, ys, new int[] {n}, false);
+    }
+
+    //Vertices are named by Vertex.index() here, as the canvases label them.
+    public static String check(ArrayList<Vertex> polygon) {
+      return check(polygon, new ArrayList<ArrayList<Vertex>>(), false);
+    }
+
+    public static String check(ArrayList<Vertex> outer, ArrayList<ArrayList<Vertex>> holes, boolean strict) {
+      int[] ends = new int[holes.size() + 1];
+      int n = outer.size();
+      ends[0] = n;
+      for(int k = 0; k < holes.size(); k++) {
+        n += holes.get(k).size();
+        ends[k+1] = n;
+      }
+      double[] x = new double[n];
+      double[] y = new double[n];
+      int[] labels = new int[n];
+      int i = 0;
+      for(int k = -1; k < holes.size(); k++) {
+        for(Vertex v: (k < 0) ? outer : holes.get(k)) {
+          x[i] = v.x();
+          y[i] = v.y();
+          labels[i++] = v.index();
+        }
+      }
+      return new PolygonValidator(x, y, labels, ends).check(strict);
+    }
+
+    //Same checks, throwing IllegalArgumentException with the reason.
+    public static void validate(double[] xs, double[] ys, int[] ring_end) {
+      String problem = check(xs, ys, ring_end, false);
+      if(problem != null)
+        throw new IllegalArgumentException(problem);
+    }
+
+    public static void validate(ArrayList<Vertex> polygon) {
+      String problem = check(polygon);
+      if(problem != null)
+        throw new IllegalArgumentException(problem);
+    }
+
+    //The cheap local checks go first, so the sweep only sees rings whose
+    //vertices are distinct and whose adjacent edges meet in a single point.
+    //Then two edges can only share an endpoint if they are adjacent.
+    private String check(boolean strict) {
+      for(int k = 0, lo = 0; k < ring_end.length; lo = ring_end[k++]) {
+        if(ring_end[k] - lo < 3)
+          return ringName(k) + " needs at least 3 vertices, got " + (ring_end[k] - lo);
+      }
+      for(int i = 0; i < n; i++) {
+        if(!Double.isFinite(xs[i]) || !Double.isFinite(ys[i]))
+          return "Vertex " + labels[i] + " has a coordinate that is not a finite number";
+      }
+
+      int[] order = sweepOrder();
+      for(int k = 1; k < n; k++) {
+        int a = order[k-1], b = order[k];
+        if(xs[a] == xs[b] && ys[a] == ys[b])
+          return "Vertices " + labels[a] + " and " + labels[b] + " coincide at " + point(a);
+      }
+
+      for(int v = 0; v < n; v++) {
+        int u = prev[v], w = next[v];
+        if(orientation(u, v, w) != 0)
+          continue;
+        if(sameSide(v, u, w))
+          return "The boundary turns back on itself at vertex " + labels[v] + ": edges " + edge(u) + " and " + edge(v) + " overlap";
+        if(strict)
+          return "Vertex " + labels[v] + " lies on the line through its neighbours " + labels[u] + " and " + labels[w];
+      }
+
+      ccw = new boolean[ring_end.length];
+      for(int k = 0, lo = 0; k < ring_end.length; lo = ring_end[k++]) {
+        int top = lo;
+        for(int i = lo+1; i < ring_end[k]; i++) {
+          if(above(i, top))
+            top = i;
+        }
+        ccw[k] = orientation(prev[top], top, next[top]) > 0;
+      }
+      return sweep(order);
+    }
+
+    //Shamos-Hoey: top to bottom over the vertices, keeping the edges that
+    //cross the sweep line in order. Edge i runs from vertex i to next[i]. If
+    //any two edges meet, some pair of them is adjacent in the status at some
+    //point, so only edges that become neighbours are tested.
+    private String sweep(int[] order) {
+      SweepStatus status = new SweepStatus(n);
+      boolean[] reached = new boolean[ring_end.length];
+      for(int v: order) {
+        //edges whose lower end is v leave first; their neighbours meet
+        for(int side = 0; side < 2; side++) {
+          int e = (side == 0) ? prev[v] : v;
+          if(!status.contains(e) || above(v, other(e, v)))
+            continue;
+          int l = status.previous(e), r = status.next(e);
+          status.remove(e);
+          if(l != NONE && r != NONE) {
+            String problem = intersect(l, r);
+            if(problem != null)
+              return problem;
+          }
+        }
+
+        //the top vertex of a hole has no edges in the status yet, so the
+        //nearest edge to its left tells which side of the boundary it is on
+        boolean first = !reached[ring[v]];
+        reached[ring[v]] = true;
+        int enclosing = (first && ring[v] > 0) ? status.leftOf(xs[v], ys[v]) : NONE;
+
+        for(int side = 0; side < 2; side++) {
+          int e = (side == 0) ? prev[v] : v, o = other(e, v);
+          if(!above(v, o))
+            continue;
+          status.insert(e, xs[v], ys[v], xs[o], ys[o]);
+          String problem = intersect(e, status.previous(e));
+          if(problem == null)
+            problem = intersect(e, status.next(e));
+          if(problem != null)
+            return problem;
+        }
+
+        if(first && ring[v] > 0) {
+          if(enclosing == NONE || (ring[enclosing] == 0 && !interiorRight(enclosing)))
+            return ringName(ring[v]) + " is not inside the outer boundary";
+          if(ring[enclosing] > 0 && interiorRight(enclosing))
+            return ringName(ring[v]) + " lies inside " + ringName(ring[enclosing]).toLowerCase();
+        }
+      }
+      return null;
+    }
+
+    //Whether edges a and b share any point, apart from the endpoint shared by
+    //adjacent edges, and which way they do. b may be -1 for no edge.
+    private String intersect(int a, int b) {
+      if(b == NONE || next[a] == b || next[b] == a)
+        return null;
+      int na = next[a], nb = next[b];
+      int o1 = orientation(a, na, b), o2 = orientation(a, na, nb);
+      int o3 = orientation(b, nb, a), o4 = orientation(b, nb, na);
+      if(o1 == 0 && o2 == 0) {
+        if(onEdge(b, a) || onEdge(nb, a) || onEdge(a, b) || onEdge(na, b))
+          return "Edges " + edge(a) + " and " + edge(b) + " overlap";
+        return null;
+      }
+      if(o1*o2 < 0 && o3*o4 < 0)
+        return "Edges " + edge(a) + " and " + edge(b) + " cross";
+      if(o1 == 0 && onEdge(b, a))
+        return "Vertex " + labels[b] + " lies on edge " + edge(a);
+      if(o2 == 0 && onEdge(nb, a))
+        return "Vertex " + labels[nb] + " lies on edge " + edge(a);
+      if(o3 == 0 && onEdge(a, b))
+        return "Vertex " + labels[a] + " lies on edge " + edge(b);
+      if(o4 == 0 && onEdge(na, b))
+        return "Vertex " + labels[na] + " lies on edge " + edge(b);
+      return null;
+    }
+
+    //Whether p, known to be on the line of edge e, lies within it.
+    private boolean onEdge(int p, int e) {
+      int q = next[e];
+      return Math.min(xs[e], xs[q]) <= xs[p] && xs[p] <= Math.max(xs[e], xs[q])
+          && Math.min(ys[e], ys[q]) <= ys[p] && ys[p] <= Math.max(ys[e], ys[q]);
+    }
+
+    //For u, v, w on one line: whether u and w lie on the same side of v.
+    private boolean sameSide(int v, int u, int w) {
+      if(xs[u] != xs[v])
+        return (xs[u] < xs[v]) == (xs[w] < xs[v]);
+      return (ys[u] < ys[v]) == (ys[w] < ys[v]);
+    }
+
+    //Whether the inside of the ring of edge e lies right of it on the sweep
+    //line. A counter clockwise ring has its inside on the left of travel, which
+    //is the right side when the edge runs downwards. The orientation of a ring
+    //is read off the convex corner at its top vertex, which the local checks
+    //guarantee is not flat.
+    private boolean interiorRight(int e) {
+      return ccw[ring[e]] == above(e, next[e]);
+    }
+
+    private int other(int e, int v) {
+      return (e == v) ? next[e] : e;
+    }
+
+    private boolean above(int a, int b) {
+      return ys[a] > ys[b] || (ys[a] == ys[b] && xs[a] < xs[b]);
+    }
+
+    private int orientation(int a, int b, int c) {
+      return Predicates.orientation(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+    }
+
+    //Vertex indices from top to bottom, by a bottom up merge sort like
+    //ArrayDoublyConnectedEdgeList.sweepOrder(). Equal points end up adjacent.
+    private int[] sweepOrder() {
+      int[] order = new int[n];
+      int[] buffer = new int[n];
+      for(int i = 0; i < n; i++)
+        order[i] = i;
+
+      for(int width = 1; width < n; width *= 2) {
+        for(int lo = 0; lo < n; lo += 2*width) {
+          int mid = Math.min(lo + width, n), hi = Math.min(lo + 2*width, n);
+          int i = lo, j = mid, k = lo;
+          while(i < mid && j < hi)
+            buffer[k++] = above(order[j], order[i]) ? order[j++] : order[i++];
+          while(i < mid)
+            buffer[k++] = order[i++];
+          while(j < hi)
+            buffer[k++] = order[j++];
+        }
+        int[] t = order;
+        order = buffer;
+        buffer = t;
+      }
+      return order;
+    }
+
+    private String edge(int e) {
+      return labels[e] + "-" + labels[next[e]];
+    }
+
+    private String point(int v) {
+      return "(" + xs[v] + ", " + ys[v] + ")";
+    }
+
+    private static String ringName(int k) {
+      return (k == 0) ? "The outer boundary" : "Hole " + k;
+    }
+}
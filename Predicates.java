@@ -0,0 +1,151 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// Predicates.java - This file contains the geometric predicates shared by all
+// stages. The orientation and in circle tests are evaluated in floating point
+// first and only fall back to exact arithmetic when the result is within the
+// rounding error bound, so their sign is always correct and independent of the
+// input scale.
+
+import java.math.BigDecimal;
+
+public final class Predicates {
+
+    private static final double EPSILON = Math.ulp(1.0) / 2;  //2^-53, unit roundoff
+    private static final double CCW_BOUND = (3.0 + 16.0*EPSILON) * EPSILON;
+    private static final double SPLITTER = 134217729.0;  //2^27 + 1, for Dekker's split
+    private static final double ICC_BOUND = (10.0 + 96.0*EPSILON) * EPSILON;
+
+    private Predicates() {
+    }
+
+    //Sign of the turn a -> b -> c: 1 for a left (counter clockwise) turn, -1 for
+    //a right turn, 0 if the three points are collinear. Exact for all finite
+    //inputs; the error filter follows Shewchuk's orient2d.
+    public static int orientation(double ax, double ay, double bx, double by, double cx, double cy) {
+      double detleft = (ax-cx) * (by-cy);
+      double detright = (ay-cy) * (bx-cx);
+      double det = detleft - detright;
+
+      double detsum;
+      if(detleft > 0) {
+        if(detright <= 0)
+          return signum(det);
+        detsum = detleft + detright;
+      }
+      else if(detleft < 0) {
+        if(detright >= 0)
+          return signum(det);
+        detsum = -detleft - detright;
+      }
+      else
+        return signum(det);
+
+      if(Math.abs(det) >= CCW_BOUND * detsum)
+        return signum(det);
+      return exactOrientation(ax, ay, bx, by, cx, cy);
+    }
+
+    public static int orientation(DoublyConnectedEdgeList.Node a, DoublyConnectedEdgeList.Node b, DoublyConnectedEdgeList.Node c) {
+      return orientation(a.x(), a.y(), b.x(), b.y(), c.x(), c.y());
+    }
+
+    //1 if d lies inside the circle through a, b and c, which must be counter
+    //clockwise, -1 if outside, 0 if on it. The error filter follows
+    //Shewchuk's incircle; the rare close calls are settled in BigDecimal,
+    //which holds every double and their products exactly.
+    public static int inCircle(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy) {
+      double adx = ax-dx, ady = ay-dy;
+      double bdx = bx-dx, bdy = by-dy;
+      double cdx = cx-dx, cdy = cy-dy;
+
+      double bdxcdy = bdx*cdy, cdxbdy = cdx*bdy;
+      double cdxady = cdx*ady, adxcdy = adx*cdy;
+      double adxbdy = adx*bdy, bdxady = bdx*ady;
+      double alift = adx*adx + ady*ady;
+      double blift = bdx*bdx + bdy*bdy;
+      double clift = cdx*cdx + cdy*cdy;
+
+      double det = alift*(bdxcdy - cdxbdy) + blift*(cdxady - adxcdy) + clift*(adxbdy - bdxady);
+      double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy))*alift
+                       + (Math.abs(cdxady) + Math.abs(adxcdy))*blift
+                       + (Math.abs(adxbdy) + Math.abs(bdxady))*clift;
+      if(Math.abs(det) > ICC_BOUND * permanent)
+        return signum(det);
+      return exactInCircle(ax, ay, bx, by, cx, cy, dx, dy);
+    }
+
+    //Orders the directions a-o and b-o the way atan2 would, (-pi, pi], but
+    //exactly: first by half plane, then by orientation. Distinct directions
+    //never compare equal, however close they are.
+    public static int compareDirection(double ox, double oy, double ax, double ay, double bx, double by) {
+      int h1 = (ay < oy || (ay == oy && ax > ox)) ? 0 : 1;
+      int h2 = (by < oy || (by == oy && bx > ox)) ? 0 : 1;
+      if(h1 != h2)
+        return h1 - h2;
+      return -orientation(ox, oy, ax, ay, bx, by);
+    }
+
+    //The determinant expanded into six products, each split exactly into a
+    //rounded value and its error term, then summed without loss into a
+    //nonoverlapping expansion whose largest component carries the sign.
+    private static int exactOrientation(double ax, double ay, double bx, double by, double cx, double cy) {
+      double[] terms = new double[12];
+      int k = 0;
+      k = product(terms, k, bx, cy);
+      k = product(terms, k, -bx, ay);
+      k = product(terms, k, -ax, cy);
+      k = product(terms, k, -by, cx);
+      k = product(terms, k, by, ax);
+      k = product(terms, k, ay, cx);
+
+      double[] h = new double[terms.length];
+      int size = 0;
+      for(int i = 0; i < k; i++) {
+        double q = terms[i];
+        int grown = 0;
+        for(int j = 0; j < size; j++) {
+          double sum = q + h[j];
+          double bv = sum - q;
+          double err = (q - (sum - bv)) + (h[j] - bv);
+          if(err != 0)
+            h[grown++] = err;
+          q = sum;
+        }
+        if(q != 0)
+          h[grown++] = q;
+        size = grown;
+      }
+      return (size == 0) ? 0 : signum(h[size-1]);
+    }
+
+    private static int exactInCircle(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy) {
+      BigDecimal x = new BigDecimal(dx), y = new BigDecimal(dy);
+      BigDecimal adx = new BigDecimal(ax).subtract(x), ady = new BigDecimal(ay).subtract(y);
+      BigDecimal bdx = new BigDecimal(bx).subtract(x), bdy = new BigDecimal(by).subtract(y);
+      BigDecimal cdx = new BigDecimal(cx).subtract(x), cdy = new BigDecimal(cy).subtract(y);
+      BigDecimal alift = adx.multiply(adx).add(ady.multiply(ady));
+      BigDecimal blift = bdx.multiply(bdx).add(bdy.multiply(bdy));
+      BigDecimal clift = cdx.multiply(cdx).add(cdy.multiply(cdy));
+      BigDecimal det = alift.multiply(bdx.multiply(cdy).subtract(cdx.multiply(bdy)))
+                  .add(blift.multiply(cdx.multiply(ady).subtract(adx.multiply(cdy))))
+                  .add(clift.multiply(adx.multiply(bdy).subtract(bdx.multiply(ady))));
+      return det.signum();
+    }
+
+    //a*b as its rounded value and the exact rounding error, by Dekker's
+    //two-product: each factor is split into two 26 bit halves whose partial
+    //products are exact. Valid while |a|, |b| stay below about 2^996, where
+    //the split itself would overflow.
+    private static int product(double[] terms, int k, double a, double b) {
+      double p = a * b;
+      double c = SPLITTER * a, ahi = c - (c - a), alo = a - ahi;
+      double d = SPLITTER * b, bhi = d - (d - b), blo = b - bhi;
+      terms[k++] = p;
+      terms[k++] = alo*blo - (((p - ahi*bhi) - alo*bhi) - ahi*blo);
+      return k;
+    }
+
+    private static int signum(double d) {
+      return (d > 0) ? 1 : (d < 0) ? -1 : 0;
+    }
+}
@@ -0,0 +1,541 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// SeidelPartition.java - This file contains a second engine for partitioning a
+// simple polygon into monotone polygons, based on Seidel's randomized
+// incremental trapezoidation. The polygon edges are inserted in random order
+// into a trapezoidal map with a search DAG; between phases the edges still to
+// come resume their point location from where the previous phase left them,
+// which gives O(n log* n) expected time. The outputs are the same as those of
+// MonotonePartition: partition(), getDiagonals() and trapezoidalization().
+// Only polygons without holes are accepted.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class SeidelPartition {
+    public static final long DEFAULT_SEED = 19; //fixed, so runs are reproducible
+
+    private static final int NONE = -1;
+    private static final int LEAF = 0, POINT = 1, SEGMENT = 2;
+
+    private ArrayList<Edge> trapezoidalization;
+    private TreeMap<Integer,DoublyConnectedEdgeList> partition;
+    private ArrayList<Edge> diagonals;
+    private ArrayDoublyConnectedEdgeList mesh; //set when partitioning the array backed DCEL
+
+    //Polygon in counter clockwise ring order. Segment i runs from vertex i to
+    //vertex i+1; seg_first/seg_last are its endpoints in sweep order.
+    private int n;
+    private double[] xs, ys;
+    private int[] seg_first, seg_last;
+    private SearchDag dag;
+
+    //Trapezoids in the sweep frame: bounded above and below by the horizontal
+    //lines through the vertices UPPER and LOWER, left and right by segments.
+    //Its neighbours share part of that horizontal line and one side segment.
+    //The fields of a trapezoid sit next to each other in one int array, since
+    //insertion order is random and every neighbour lookup is a cache miss.
+    private static final int UPPER = 0, LOWER = 1, LEFT = 2, RIGHT = 3;
+    private static final int ABOVE_LEFT = 4, ABOVE_RIGHT = 5, BELOW_LEFT = 6, BELOW_RIGHT = 7;
+    private static final int LEAF_NODE = 8;  //DAG leaf of the trapezoid, NONE once it is split
+    private static final int STRIDE = 9;
+    private int[] traps;
+    private int trap_count;
+    private final IntList crossed = new IntList(), pieces_right = new IntList(), pieces_left = new IntList();
+
+    public SeidelPartition(DoublyConnectedEdgeList polygon) {
+        this(polygon, true, DEFAULT_SEED);
+    }
+
+    //With trapezoids false only the diagonals and the monotone pieces are
+    //recorded, as in MonotonePartition(polygon, false).
+    public SeidelPartition(DoublyConnectedEdgeList polygon, boolean trapezoids, long seed) {
+        if (!polygon.holes().isEmpty())
+            throw new IllegalArgumentException("SeidelPartition does not support polygons with holes; use MonotonePartition");
+        this.partition = new TreeMap<Integer,DoublyConnectedEdgeList>();
+        this.trapezoidalization = new ArrayList<Edge>();
+        this.diagonals = new ArrayList<Edge>();
+        partition.put(polygon.id(), polygon);
+
+        DoublyConnectedEdgeList.Node[] nodes = new DoublyConnectedEdgeList.Node[polygon.faceSize()];
+        DoublyConnectedEdgeList.DCEL_Edge cur_edge = polygon.rep_edge();
+        double[] x = new double[nodes.length], y = new double[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = cur_edge.origin();
+            x[i] = nodes[i].x();
+            y[i] = nodes[i].y();
+            cur_edge = cur_edge.next();
+        }
+
+        int[] pairs = trapezoidate(x, y, nodes.length, seed);
+        if (trapezoids)
+            recordTrapezoids();
+        for (int k = 0; k < pairs.length; k += 2) {
+            DoublyConnectedEdgeList.Node v = nodes[pairs[k]], w = nodes[pairs[k+1]];
+            diagonals.add(new Edge(new Vertex(v), new Vertex(w)));
+            DoublyConnectedEdgeList polygonToSplit = partition.get(v.IncidentEdge(w).DCEL_id());
+            DoublyConnectedEdgeList newDCEL = polygonToSplit.connect(v, w);
+            partition.put(newDCEL.id(), newDCEL);
+        }
+    }
+
+    public SeidelPartition(ArrayDoublyConnectedEdgeList polygon) {
+        this(polygon, DEFAULT_SEED);
+    }
+
+    //Partitions an array backed DCEL in place, like MonotonePartition: the
+    //monotone pieces are the inner faces of the mesh afterwards. Headless.
+    public SeidelPartition(ArrayDoublyConnectedEdgeList polygon, long seed) {
+        if (polygon.ringCount() > 1)
+            throw new IllegalArgumentException("SeidelPartition does not support polygons with holes; use MonotonePartition");
+        this.partition = new TreeMap<Integer,DoublyConnectedEdgeList>();
+        this.trapezoidalization = new ArrayList<Edge>();
+        this.diagonals = new ArrayList<Edge>();
+        this.mesh = polygon;
+
+        int count = polygon.nodeCount();
+        int[] ring = new int[count];
+        double[] x = new double[count], y = new double[count];
+        int v = 0;
+        for (int i = 0; i < count; i++) {
+            ring[i] = v;
+            x[i] = polygon.x(v);
+            y[i] = polygon.y(v);
+            v = polygon.boundaryNext(v);
+        }
+
+        int[] pairs = trapezoidate(x, y, count, seed);
+        for (int k = 0; k < pairs.length; k += 2)
+            polygon.connect(ring[pairs[k]], ring[pairs[k+1]]);
+    }
+
+    public ArrayDoublyConnectedEdgeList mesh() {
+        return this.mesh;
+    }
+
+    public ArrayList<Edge> getDiagonals() {
+        return this.diagonals;
+    }
+
+    public ArrayList<Edge> trapezoidalization() {
+        return this.trapezoidalization;
+    }
+
+    public TreeMap<Integer,DoublyConnectedEdgeList> partition() {
+        return this.partition;
+    }
+
+    //Builds the trapezoidal map of the ring and returns the diagonals as
+    //pairs of ring positions. The trapezoid right below a merge vertex and
+    //the one right above a split vertex get the diagonal between their upper
+    //and lower vertex, one diagonal per split or merge vertex as in the sweep,
+    //so the pieces are monotone. Each diagonal lies inside its own trapezoid,
+    //so none of them cross.
+    private int[] trapezoidate(double[] x, double[] y, int count, long seed) {
+        this.n = count;
+        this.xs = x;
+        this.ys = y;
+        this.seg_first = new int[n];
+        this.seg_last = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = (i + 1 == n) ? 0 : i + 1;
+            boolean down = before(i, j);
+            seg_first[i] = down ? i : j;
+            seg_last[i] = down ? j : i;
+        }
+
+        //about 6n trapezoids and 10n search nodes are made over a full run
+        this.traps = new int[STRIDE*(6*n + 4)];
+        this.dag = new SearchDag(10*n + 4);
+        this.trap_count = 0;
+        int root = dag.add(LEAF, newTrapezoid(NONE, NONE, NONE, NONE));
+        put(0, LEAF_NODE, root);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+
+        //Phase h inserts segments up to N(h) = n / log^(h) n. Afterwards every
+        //segment still waiting walks its search start down to the current
+        //leaf, so the next phase locates it from there instead of the root.
+        int[] start = new int[n];
+        Arrays.fill(start, root);
+        boolean[] inserted = new boolean[n];
+        int done = 0;
+        for (int h = 1; done < n; h++) {
+            int target = phaseEnd(n, h);
+            for (; done < target; done++) {
+                int s = order[done];
+                insert(s, locate(seg_first[s], s, start[s]));
+                inserted[s] = true;
+            }
+            if (done < n) {
+                for (int s = 0; s < n; s++) {
+                    if (!inserted[s])
+                        start[s] = locate(seg_first[s], s, start[s]);
+                }
+            }
+        }
+
+        IntList pairs = new IntList();
+        for (int t = 0; t < trap_count; t++) {
+            if (!isInside(t))
+                continue;
+            int u = get(t, UPPER), w = get(t, LOWER);
+            if (isCusp(t, u) || isCusp(t, w)) {
+                pairs.add(u);
+                pairs.add(w);
+            }
+        }
+        return pairs.toArray();
+    }
+
+    private static int phaseEnd(int n, int h) {
+        double v = n;
+        for (int i = 0; i < h; i++) {
+            v = Math.log(v) / Math.log(2);
+            if (v <= 1)
+                return n;
+        }
+        return Math.min(n, (int) Math.ceil(n / v));
+    }
+
+    //Sweep order used by both engines: higher y first, smaller x first on
+    //equal y. This is also the symbolic shear that keeps horizontal segments
+    //and equal y vertices apart.
+    private boolean before(int a, int b) {
+        if (ys[a] != ys[b])
+            return ys[a] > ys[b];
+        if (xs[a] != xs[b])
+            return xs[a] < xs[b];
+        return a < b;
+    }
+
+    //Whether vertex p lies on the right of segment s, looking down the sweep.
+    private boolean rightOf(int p, int s) {
+        return Predicates.orientation(xs[seg_first[s]], ys[seg_first[s]], xs[seg_last[s]], ys[seg_last[s]], xs[p], ys[p]) > 0;
+    }
+
+    //Leaf of the DAG whose trapezoid contains segment s just below its first
+    //endpoint p, searching from node. At p itself the search continues below
+    //the point; at a segment through p the other endpoint of s decides.
+    private int locate(int p, int s, int node) {
+      while (dag.kind(node) != LEAF) {
+        int key = dag.key(node);
+        boolean a;
+        if (dag.kind(node) == POINT) {
+          a = (key != p) && before(p, key);
+        }
+        else {
+          int side = Predicates.orientation(xs[seg_first[key]], ys[seg_first[key]], xs[seg_last[key]], ys[seg_last[key]], xs[p], ys[p]);
+          if (side == 0)
+            side = Predicates.orientation(xs[seg_first[key]], ys[seg_first[key]], xs[seg_last[key]], ys[seg_last[key]], xs[seg_last[s]], ys[seg_last[s]]);
+          a = side > 0;
+        }
+        node = a ? dag.a(node) : dag.b(node);
+      }
+      return node;
+    }
+
+    //Inserts segment s, whose first endpoint lies in the trapezoid of leaf
+    //start. The trapezoids it crosses are cut in two along s; consecutive
+    //pieces on one side merge where the vertex between them lies on the
+    //other side of s. New endpoints also split the first and last trapezoid
+    //horizontally.
+    private void insert(int s, int start) {
+      int p = seg_first[s], q = seg_last[s];
+      crossed.clear();
+      int d = dag.key(start);
+      crossed.add(d);
+      while (get(d, LOWER) != NONE && before(get(d, LOWER), q)) {
+        d = rightOf(get(d, LOWER), s) ? get(d, BELOW_LEFT) : get(d, BELOW_RIGHT);
+        if (d == NONE)
+          throw new IllegalStateException("Polygon is not simple at segment " + s);
+        crossed.add(d);
+      }
+
+      int first = crossed.get(0), last = crossed.get(crossed.size() - 1);
+      boolean newUpper = get(first, UPPER) != p;
+      boolean newLower = get(last, LOWER) != q;
+      pieces_right.clear();
+      pieces_left.clear();
+
+      int above = NONE, below = NONE;
+      int rt = newTrapezoid(p, NONE, s, get(first, RIGHT));
+      int lf = newTrapezoid(p, NONE, get(first, LEFT), s);
+      if (newUpper) {
+        above = newTrapezoid(get(first, UPPER), p, get(first, LEFT), get(first, RIGHT));
+        put(above, ABOVE_LEFT, get(first, ABOVE_LEFT));
+        put(above, ABOVE_RIGHT, get(first, ABOVE_RIGHT));
+        replaceBelow(get(first, ABOVE_LEFT), first, above);
+        replaceBelow(get(first, ABOVE_RIGHT), first, above);
+        put(above, BELOW_LEFT, lf);
+        put(above, BELOW_RIGHT, rt);
+        put(lf, ABOVE_LEFT, above);
+        put(rt, ABOVE_RIGHT, above);
+      }
+      else {
+        put(lf, ABOVE_LEFT, get(first, ABOVE_LEFT));
+        put(rt, ABOVE_RIGHT, get(first, ABOVE_RIGHT));
+        replaceBelow(get(first, ABOVE_LEFT), first, lf);
+        replaceBelow(get(first, ABOVE_RIGHT), first, rt);
+      }
+      pieces_right.add(rt);
+      pieces_left.add(lf);
+
+      for (int j = 1; j < crossed.size(); j++) {
+        int prev = crossed.get(j - 1), cur = crossed.get(j);
+        int r = get(prev, LOWER);
+        if (rightOf(r, s)) {
+          //r cuts the right side; the piece left of s runs on past r
+          int next = newTrapezoid(r, NONE, s, get(cur, RIGHT));
+          put(rt, LOWER, r);
+          put(rt, BELOW_RIGHT, get(prev, BELOW_RIGHT));
+          replaceAbove(get(prev, BELOW_RIGHT), prev, rt);
+          put(rt, BELOW_LEFT, next);
+          put(next, ABOVE_LEFT, rt);
+          put(next, ABOVE_RIGHT, get(cur, ABOVE_RIGHT));
+          replaceBelow(get(cur, ABOVE_RIGHT), cur, next);
+          rt = next;
+        }
+        else {
+          int next = newTrapezoid(r, NONE, get(cur, LEFT), s);
+          put(lf, LOWER, r);
+          put(lf, BELOW_LEFT, get(prev, BELOW_LEFT));
+          replaceAbove(get(prev, BELOW_LEFT), prev, lf);
+          put(lf, BELOW_RIGHT, next);
+          put(next, ABOVE_RIGHT, lf);
+          put(next, ABOVE_LEFT, get(cur, ABOVE_LEFT));
+          replaceBelow(get(cur, ABOVE_LEFT), cur, next);
+          lf = next;
+        }
+        pieces_right.add(rt);
+        pieces_left.add(lf);
+      }
+
+      put(rt, LOWER, q);
+      put(lf, LOWER, q);
+      if (newLower) {
+        below = newTrapezoid(q, get(last, LOWER), get(last, LEFT), get(last, RIGHT));
+        put(below, BELOW_LEFT, get(last, BELOW_LEFT));
+        put(below, BELOW_RIGHT, get(last, BELOW_RIGHT));
+        replaceAbove(get(last, BELOW_LEFT), last, below);
+        replaceAbove(get(last, BELOW_RIGHT), last, below);
+        put(below, ABOVE_LEFT, lf);
+        put(below, ABOVE_RIGHT, rt);
+        put(lf, BELOW_LEFT, below);
+        put(rt, BELOW_RIGHT, below);
+      }
+      else {
+        put(lf, BELOW_LEFT, get(last, BELOW_LEFT));
+        put(rt, BELOW_RIGHT, get(last, BELOW_RIGHT));
+        replaceAbove(get(last, BELOW_LEFT), last, lf);
+        replaceAbove(get(last, BELOW_RIGHT), last, rt);
+      }
+
+      //The leaves of the crossed trapezoids become inner nodes in place, so
+      //search starts saved on them stay valid.
+      for (int j = 0; j < crossed.size(); j++) {
+        int t = crossed.get(j);
+        int node = get(t, LEAF_NODE);
+        put(t, LEAF_NODE, NONE);
+        int split = dag.add(SEGMENT, s, leaf(pieces_right.get(j)), leaf(pieces_left.get(j)));
+        boolean top = (j == 0 && newUpper), bottom = (j == crossed.size() - 1 && newLower);
+        if (top && bottom)
+          dag.set(node, POINT, p, leaf(above), dag.add(POINT, q, split, leaf(below)));
+        else if (top)
+          dag.set(node, POINT, p, leaf(above), split);
+        else if (bottom)
+          dag.set(node, POINT, q, split, leaf(below));
+        else
+          dag.copy(split, node);
+      }
+    }
+
+    private int leaf(int t) {
+      if (get(t, LEAF_NODE) == NONE)
+        put(t, LEAF_NODE, dag.add(LEAF, t));
+      return get(t, LEAF_NODE);
+    }
+
+    private void replaceBelow(int t, int old, int replacement) {
+      if (t == NONE)
+        return;
+      if (get(t, BELOW_LEFT) == old)
+        put(t, BELOW_LEFT, replacement);
+      if (get(t, BELOW_RIGHT) == old)
+        put(t, BELOW_RIGHT, replacement);
+    }
+
+    private void replaceAbove(int t, int old, int replacement) {
+      if (t == NONE)
+        return;
+      if (get(t, ABOVE_LEFT) == old)
+        put(t, ABOVE_LEFT, replacement);
+      if (get(t, ABOVE_RIGHT) == old)
+        put(t, ABOVE_RIGHT, replacement);
+    }
+
+    //A live trapezoid is inside the polygon when its left side runs down the
+    //ring: the ring is counter clockwise, so the interior is on its right.
+    private boolean isInside(int t) {
+      int s = get(t, LEFT);
+      return get(t, LEAF_NODE) != NONE && s != NONE && get(t, RIGHT) != NONE && seg_first[s] == s;
+    }
+
+    //A vertex of an inside trapezoid that touches neither side segment has
+    //both its edges on the far side: it is a merge vertex if it is the upper
+    //one, a split vertex if it is the lower one.
+    private boolean isCusp(int t, int v) {
+      return !touches(get(t, LEFT), v) && !touches(get(t, RIGHT), v);
+    }
+
+    private boolean touches(int s, int v) {
+      return seg_first[s] == v || seg_last[s] == v;
+    }
+
+    //One horizontal segment per vertex, spanning the inside trapezoids that
+    //touch it, the same segments the sweep draws at split, merge and regular
+    //vertices.
+    private void recordTrapezoids() {
+      double[] from = new double[n], to = new double[n];
+      Arrays.fill(from, Double.POSITIVE_INFINITY);
+      Arrays.fill(to, Double.NEGATIVE_INFINITY);
+      for (int t = 0; t < trap_count; t++) {
+        if (!isInside(t) || ys[get(t, UPPER)] == ys[get(t, LOWER)])
+          continue;
+        extend(from, to, t, get(t, UPPER));
+        extend(from, to, t, get(t, LOWER));
+      }
+      for (int v = 0; v < n; v++) {
+        if (from[v] < to[v])
+          trapezoidalization.add(new Edge(new Vertex(from[v], ys[v]), new Vertex(to[v], ys[v])));
+      }
+    }
+
+    private void extend(double[] from, double[] to, int t, int v) {
+      from[v] = Math.min(from[v], xAt(get(t, LEFT), ys[v]));
+      to[v] = Math.max(to[v], xAt(get(t, RIGHT), ys[v]));
+    }
+
+    private double xAt(int s, double y) {
+      int a = seg_first[s], b = seg_last[s];
+      if (y == ys[a])
+        return xs[a];
+      if (y == ys[b])
+        return xs[b];
+      return xs[a] + (xs[b] - xs[a]) * (y - ys[a]) / (ys[b] - ys[a]);
+    }
+
+    private int newTrapezoid(int upper, int lower, int left, int right) {
+      if (STRIDE*(trap_count+1) > traps.length)
+        traps = Arrays.copyOf(traps, 2*traps.length);
+      int t = trap_count++;
+      put(t, UPPER, upper);
+      put(t, LOWER, lower);
+      put(t, LEFT, left);
+      put(t, RIGHT, right);
+      put(t, ABOVE_LEFT, NONE);
+      put(t, ABOVE_RIGHT, NONE);
+      put(t, BELOW_LEFT, NONE);
+      put(t, BELOW_RIGHT, NONE);
+      put(t, LEAF_NODE, NONE);
+      return t;
+    }
+
+    private int get(int t, int field) {
+      return traps[STRIDE*t + field];
+    }
+
+    private void put(int t, int field, int value) {
+      traps[STRIDE*t + field] = value;
+    }
+
+    //Search DAG, one node per four ints (kind, key, a, b) so a step of the
+    //search touches a single cache line. A POINT node keyed by a vertex sends
+    //points above it (earlier in the sweep) to a, the rest to b; a SEGMENT
+    //node sends points right of the segment to a, the rest to b; a LEAF names
+    //a trapezoid.
+    private static final class SearchDag {
+        int[] nodes;
+        int count;
+
+        SearchDag(int capacity) {
+          nodes = new int[4 * capacity];
+        }
+
+        int kind(int node) {
+          return nodes[4*node];
+        }
+
+        int key(int node) {
+          return nodes[4*node + 1];
+        }
+
+        int a(int node) {
+          return nodes[4*node + 2];
+        }
+
+        int b(int node) {
+          return nodes[4*node + 3];
+        }
+
+        int add(int k, int t) {
+          return add(k, t, NONE, NONE);
+        }
+
+        int add(int k, int t, int first, int second) {
+          if (4*count == nodes.length)
+            nodes = Arrays.copyOf(nodes, 2 * nodes.length);
+          set(count, k, t, first, second);
+          return count++;
+        }
+
+        void set(int node, int k, int t, int first, int second) {
+          nodes[4*node] = k;
+          nodes[4*node + 1] = t;
+          nodes[4*node + 2] = first;
+          nodes[4*node + 3] = second;
+        }
+
+        void copy(int from, int to) {
+          System.arraycopy(nodes, 4*from, nodes, 4*to, 4);
+        }
+    }
+
+    private static final class IntList {
+        private int[] data = new int[16];
+        private int size;
+
+        void add(int v) {
+          if (size == data.length)
+            data = Arrays.copyOf(data, 2 * size);
+          data[size++] = v;
+        }
+
+        int get(int i) {
+          return data[i];
+        }
+
+        int size() {
+          return size;
+        }
+
+        void clear() {
+          size = 0;
+        }
+
+        int[] toArray() {
+          return Arrays.copyOf(data, size);
+        }
+    }
+}
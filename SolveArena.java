@@ -0,0 +1,72 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// SolveArena.java - This file contains a solve-scoped pool for the DCEL
+// records. Edges, nodes and faces handed out during a solve stay owned by the
+// arena, and reset() rewinds it so the next solve reuses the same objects
+// instead of allocating new ones.
+
+import java.util.Arrays;
+
+public class SolveArena extends IdContext {
+
+    private DoublyConnectedEdgeList.DCEL_Edge[] edges = new DoublyConnectedEdgeList.DCEL_Edge[64];
+    private DoublyConnectedEdgeList.Node[] nodes = new DoublyConnectedEdgeList.Node[32];
+    private DoublyConnectedEdgeList[] faces = new DoublyConnectedEdgeList[16];
+    private int edges_used, nodes_used, faces_used;
+
+    //Rewinds the pools and the id counters. Everything built on this arena
+    //since the last reset is recycled, so results of the previous solve must
+    //not be used afterwards. Not thread safe: use one arena per worker.
+    @Override
+    public void reset() {
+      super.reset();
+      edges_used = 0;
+      nodes_used = 0;
+      faces_used = 0;
+    }
+
+    @Override
+    public DoublyConnectedEdgeList.DCEL_Edge newEdge(int DCEL_id) {
+      if(edges_used == edges.length)
+        edges = Arrays.copyOf(edges, 2*edges.length);
+      DoublyConnectedEdgeList.DCEL_Edge e = edges[edges_used];
+      if(e == null)
+        e = edges[edges_used] = new DoublyConnectedEdgeList.DCEL_Edge(DCEL_id, this);
+      else
+        e.recycle(DCEL_id, nextEdgeId());
+      edges_used++;
+      return e;
+    }
+
+    @Override
+    public DoublyConnectedEdgeList.Node newNode(Vertex v) {
+      if(nodes_used == nodes.length)
+        nodes = Arrays.copyOf(nodes, 2*nodes.length);
+      DoublyConnectedEdgeList.Node node = nodes[nodes_used];
+      if(node == null)
+        node = nodes[nodes_used] = new DoublyConnectedEdgeList.Node(v);
+      else
+        node.recycle(v);
+      nodes_used++;
+      return node;
+    }
+
+    @Override
+    public DoublyConnectedEdgeList newFace(DoublyConnectedEdgeList.DCEL_Edge rep_edge) {
+      if(faces_used == faces.length)
+        faces = Arrays.copyOf(faces, 2*faces.length);
+      DoublyConnectedEdgeList face = faces[faces_used];
+      if(face == null)
+        face = faces[faces_used] = new DoublyConnectedEdgeList(rep_edge, this);
+      else
+        face.recycle(rep_edge, nextDCELId(), this);
+      faces_used++;
+      return face;
+    }
+
+    //Records the pools hold, live or free. Stays flat once the arena has
+    //seen the largest polygon of a workload.
+    public int capacity() {
+      return edges.length + nodes.length + faces.length;
+    }
+}
@@ -0,0 +1,134 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// SpatialIndex.java - This file contains a uniform grid hash over coordinates
+// for epsilon lookups. Points closer than eps share one key, and segments are
+// keyed by the pair of keys of their endpoints, so "which node is at (x,y)" and
+// "which half-edges lie on this segment" are O(1) expected instead of scans.
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+
+public class SpatialIndex<T> {
+
+    private final double eps;
+    private final HashMap<Long, ArrayList<Point<T>>> cells;  //grid cell -> points inside it
+    private final HashMap<Long, ArrayList<DoublyConnectedEdgeList.DCEL_Edge>> segments;  //endpoint keys -> half-edges
+    private int point_count;
+
+    public SpatialIndex(double eps) {
+      this.eps = eps;
+      this.cells = new HashMap<Long, ArrayList<Point<T>>>();
+      this.segments = new HashMap<Long, ArrayList<DoublyConnectedEdgeList.DCEL_Edge>>();
+      this.point_count = 0;
+    }
+
+    //Index of every node and edge on the given faces, e.g. all triangles of a
+    //triangulation.
+    public static SpatialIndex<DoublyConnectedEdgeList.Node> of(Collection<DoublyConnectedEdgeList> faces, double eps) {
+      SpatialIndex<DoublyConnectedEdgeList.Node> index = new SpatialIndex<DoublyConnectedEdgeList.Node>(eps);
+      for(DoublyConnectedEdgeList face: faces) {
+        DoublyConnectedEdgeList.DCEL_Edge e = face.rep_edge();
+        do {
+          index.addPoint(e.origin().x(), e.origin().y(), e.origin());
+          index.addSegment(e);
+          e = e.next();
+        } while(e != face.rep_edge());
+      }
+      return index;
+    }
+
+    //Registers value at (x,y). The first value registered near a point wins.
+    public void addPoint(double x, double y, T value) {
+      Point<T> p = find(x, y, true);
+      if(p.value == null)
+        p.value = value;
+    }
+
+    public T pointAt(double x, double y) {
+      Point<T> p = find(x, y, false);
+      return (p == null) ? null : p.value;
+    }
+
+    public void addSegment(DoublyConnectedEdgeList.DCEL_Edge e) {
+      DoublyConnectedEdgeList.Node a = e.origin(), b = e.next().origin();
+      long key = segmentKey(find(a.x(), a.y(), true).key, find(b.x(), b.y(), true).key);
+      ArrayList<DoublyConnectedEdgeList.DCEL_Edge> list = segments.get(key);
+      if(list == null) {
+        list = new ArrayList<DoublyConnectedEdgeList.DCEL_Edge>(2);
+        segments.put(key, list);
+      }
+      list.add(e);
+    }
+
+    //Half-edges registered on the segment (x1,y1)-(x2,y2) in either direction,
+    //in the order they were added.
+    public ArrayList<DoublyConnectedEdgeList.DCEL_Edge> segmentAt(double x1, double y1, double x2, double y2) {
+      Point<T> a = find(x1, y1, false), b = find(x2, y2, false);
+      if(a == null || b == null)
+        return new ArrayList<DoublyConnectedEdgeList.DCEL_Edge>();
+      ArrayList<DoublyConnectedEdgeList.DCEL_Edge> list = segments.get(segmentKey(a.key, b.key));
+      return (list == null) ? new ArrayList<DoublyConnectedEdgeList.DCEL_Edge>() : list;
+    }
+
+    public ArrayList<DoublyConnectedEdgeList.DCEL_Edge> segmentAt(DoublyConnectedEdgeList.DCEL_Edge e) {
+      return segmentAt(e.origin().x(), e.origin().y(), e.next().origin().x(), e.next().origin().y());
+    }
+
+    //DCEL ids of the faces whose boundary runs along the segment.
+    public ArrayList<Integer> facesSharing(double x1, double y1, double x2, double y2) {
+      ArrayList<Integer> faces = new ArrayList<Integer>();
+      for(DoublyConnectedEdgeList.DCEL_Edge e: segmentAt(x1, y1, x2, y2))
+        faces.add(e.DCEL_id());
+      return faces;
+    }
+
+    //Points within eps of each other may straddle a cell border, so the 3x3
+    //block of cells around (x,y) is searched.
+    private Point<T> find(double x, double y, boolean create) {
+      long cx = (long) Math.floor(x / eps), cy = (long) Math.floor(y / eps);
+      for(long i = cx-1; i <= cx+1; i++) {
+        for(long j = cy-1; j <= cy+1; j++) {
+          ArrayList<Point<T>> cell = cells.get(cellKey(i, j));
+          if(cell == null)
+            continue;
+          for(Point<T> p: cell) {
+            if(Math.abs(p.x - x) <= eps && Math.abs(p.y - y) <= eps)
+              return p;
+          }
+        }
+      }
+      if(!create)
+        return null;
+
+      Point<T> p = new Point<T>(x, y, point_count++);
+      long key = cellKey(cx, cy);
+      ArrayList<Point<T>> cell = cells.get(key);
+      if(cell == null) {
+        cell = new ArrayList<Point<T>>(1);
+        cells.put(key, cell);
+      }
+      cell.add(p);
+      return p;
+    }
+
+    private static long cellKey(long cx, long cy) {
+      return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    private static long segmentKey(int a, int b) {
+      return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+
+    private static class Point<T> {
+      double x, y;
+      int key;
+      T value;
+
+      Point(double x, double y, int key) {
+        this.x = x;
+        this.y = y;
+        this.key = key;
+      }
+    }
+}
@@ -0,0 +1,137 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// SweepDirection.java - This file contains the directions the monotone
+// partition can sweep in. Every stage is written for a top to bottom sweep, so
+// another direction is swept by turning the coordinates into its frame first
+// and back afterwards. Only quarter turns are offered: they are exact in
+// floating point, so the exact predicates see the same polygon in every frame.
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+public enum SweepDirection {
+    VERTICAL,    //top to bottom, the pieces are y-monotone
+    HORIZONTAL;  //left to right, the pieces are x-monotone
+
+    //Split plus merge vertices when the polygon is swept in this direction,
+    //in one pass over the boundary. Each one costs a diagonal, so the count
+    //decides how many monotone pieces the partition makes.
+    public int turningVertices(ArrayDoublyConnectedEdgeList mesh) {
+      int count = 0;
+      for(int v = 0; v < mesh.nodeCount(); v++) {
+        int p = mesh.boundaryPrev(v), q = mesh.boundaryNext(v);
+        if(isTurning(mesh.x(p), mesh.y(p), mesh.x(v), mesh.y(v), mesh.x(q), mesh.y(q)))
+          count++;
+      }
+      return count;
+    }
+
+    public int turningVertices(DoublyConnectedEdgeList polygon) {
+      int count = 0;
+      for(DoublyConnectedEdgeList.DCEL_Edge start: rings(polygon)) {
+        DoublyConnectedEdgeList.DCEL_Edge e = start;
+        do {
+          DoublyConnectedEdgeList.Node p = e.prev().origin(), v = e.origin(), q = e.next().origin();
+          if(isTurning(p.x(), p.y(), v.x(), v.y(), q.x(), q.y()))
+            count++;
+          e = e.next();
+        } while(e != start);
+      }
+      return count;
+    }
+
+    //The direction with the fewest split and merge vertices; ties keep the
+    //default vertical sweep.
+    public static SweepDirection cheapest(ArrayDoublyConnectedEdgeList mesh) {
+      SweepDirection best = VERTICAL;
+      int fewest = Integer.MAX_VALUE;
+      for(SweepDirection d: values()) {
+        int count = d.turningVertices(mesh);
+        if(count < fewest) {
+          best = d;
+          fewest = count;
+        }
+      }
+      return best;
+    }
+
+    public static SweepDirection cheapest(DoublyConnectedEdgeList polygon) {
+      SweepDirection best = VERTICAL;
+      int fewest = Integer.MAX_VALUE;
+      for(SweepDirection d: values()) {
+        int count = d.turningVertices(polygon);
+        if(count < fewest) {
+          best = d;
+          fewest = count;
+        }
+      }
+      return best;
+    }
+
+    //Turns the mesh into this direction's frame, where the sweep runs top to
+    //bottom; leave() turns it back. A horizontal sweep turns clockwise, so
+    //the leftmost vertex ends up on top.
+    public void enter(ArrayDoublyConnectedEdgeList mesh) {
+      if(this == HORIZONTAL)
+        mesh.quarterTurn(true);
+    }
+
+    public void leave(ArrayDoublyConnectedEdgeList mesh) {
+      if(this == HORIZONTAL)
+        mesh.quarterTurn(false);
+    }
+
+    //Pointer version. The partition splits the polygon, so its nodes are
+    //collected here and handed back to leave().
+    public ArrayList<DoublyConnectedEdgeList.Node> enter(DoublyConnectedEdgeList polygon) {
+      ArrayList<DoublyConnectedEdgeList.Node> nodes = new ArrayList<DoublyConnectedEdgeList.Node>();
+      if(this == VERTICAL)
+        return nodes;
+      HashSet<DoublyConnectedEdgeList.Node> seen = new HashSet<DoublyConnectedEdgeList.Node>();
+      for(DoublyConnectedEdgeList.DCEL_Edge start: rings(polygon)) {
+        DoublyConnectedEdgeList.DCEL_Edge e = start;
+        do {
+          if(seen.add(e.origin()))
+            nodes.add(e.origin());
+          e = e.next();
+        } while(e != start);
+      }
+      turn(nodes, true);
+      return nodes;
+    }
+
+    public void leave(ArrayList<DoublyConnectedEdgeList.Node> nodes) {
+      if(this == HORIZONTAL)
+        turn(nodes, false);
+    }
+
+    private static void turn(ArrayList<DoublyConnectedEdgeList.Node> nodes, boolean clockwise) {
+      for(DoublyConnectedEdgeList.Node v: nodes)
+        v.quarterTurn(clockwise);
+      for(DoublyConnectedEdgeList.Node v: nodes)
+        v.sortRotation();
+    }
+
+    //Outer ring and unbridged holes; the interior lies left of every edge.
+    private static ArrayList<DoublyConnectedEdgeList.DCEL_Edge> rings(DoublyConnectedEdgeList polygon) {
+      ArrayList<DoublyConnectedEdgeList.DCEL_Edge> rings = polygon.holes();
+      rings.add(0, polygon.rep_edge());
+      return rings;
+    }
+
+    //v is a split or merge vertex when its corner is reflex and both
+    //neighbours lie on the same side of it along the sweep.
+    private boolean isTurning(double px, double py, double vx, double vy, double qx, double qy) {
+      if(Predicates.orientation(px, py, vx, vy, qx, qy) >= 0)
+        return false;
+      return above(px, py, vx, vy) == above(qx, qy, vx, vy);
+    }
+
+    //The sweep order of MonotonePartition read in this direction's frame:
+    //after a clockwise quarter turn, y' = -x and x' = y.
+    private boolean above(double ax, double ay, double bx, double by) {
+      if(this == VERTICAL)
+        return ay > by || (ay == by && ax < bx);
+      return ax < bx || (ax == bx && ay < by);
+    }
+}
@@ -0,0 +1,242 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// SweepStatus.java - This file contains the status structure of the monotone
+// partition sweep: the edges crossing the sweep line, ordered left to right.
+// Edges are named by an int key (edge id or node index) and kept in a treap
+// stored in flat arrays indexed by that key, so inserts, removals and queries
+// allocate nothing once the arrays have grown to the largest key.
+
+import java.util.Arrays;
+
+public class SweepStatus {
+
+    private static final int NONE = -1;
+
+    //endpoints of each edge, cached on insert, plus its inverse slope dx/dy
+    private double[] top_x, top_y, bot_x, bot_y, dxdy;
+    private int[] left, right, parent, priority;
+    private boolean[] present;
+    private int root = NONE;
+    private int size = 0;
+
+    public SweepStatus(int capacity) {
+      allocate(Math.max(capacity, 16));
+    }
+
+    public int size() {
+      return this.size;
+    }
+
+    public boolean contains(int e) {
+      return e >= 0 && e < present.length && present[e];
+    }
+
+    public void clear() {
+      while(root != NONE)
+        remove(root);
+    }
+
+    //Adds edge e from (x1,y1) to (x2,y2). The sweep inserts an edge when it
+    //reaches its upper endpoint, so that point lies on the sweep line.
+    public void insert(int e, double x1, double y1, double x2, double y2) {
+      if(e >= present.length)
+        allocate(Math.max(e+1, 2*present.length));
+      if(present[e])
+        remove(e);
+
+      boolean swap = y2 > y1 || (y2 == y1 && x2 < x1);
+      top_x[e] = swap ? x2 : x1;
+      top_y[e] = swap ? y2 : y1;
+      bot_x[e] = swap ? x1 : x2;
+      bot_y[e] = swap ? y1 : y2;
+      dxdy[e] = (top_y[e] == bot_y[e]) ? 0 : (bot_x[e]-top_x[e]) / (bot_y[e]-top_y[e]);
+      left[e] = right[e] = parent[e] = NONE;
+      present[e] = true;
+      size++;
+
+      if(root == NONE) {
+        root = e;
+        return;
+      }
+      int cur = root;
+      while(true) {
+        if(rightOf(cur, e)) {
+          if(right[cur] == NONE) {
+            right[cur] = e;
+            break;
+          }
+          cur = right[cur];
+        }
+        else {
+          if(left[cur] == NONE) {
+            left[cur] = e;
+            break;
+          }
+          cur = left[cur];
+        }
+      }
+      parent[e] = cur;
+      while(parent[e] != NONE && priority[parent[e]] < priority[e])
+        rotateUp(e);
+    }
+
+    //Removes e without searching for it: it is rotated down to a leaf through
+    //its parent links and then cut off.
+    public void remove(int e) {
+      if(!contains(e))
+        return;
+      while(left[e] != NONE || right[e] != NONE) {
+        int child;
+        if(left[e] == NONE)
+          child = right[e];
+        else if(right[e] == NONE)
+          child = left[e];
+        else
+          child = (priority[left[e]] > priority[right[e]]) ? left[e] : right[e];
+        rotateUp(child);
+      }
+      int p = parent[e];
+      if(p == NONE)
+        root = NONE;
+      else if(left[p] == e)
+        left[p] = NONE;
+      else
+        right[p] = NONE;
+      parent[e] = NONE;
+      present[e] = false;
+      size--;
+    }
+
+    //Nearest edge to the left of point (x,y) on the sweep line, or -1. A point
+    //on an edge counts as lying just right of it.
+    public int leftOf(double x, double y) {
+      int cur = root, best = NONE;
+      while(cur != NONE) {
+        if(Predicates.orientation(top_x[cur], top_y[cur], bot_x[cur], bot_y[cur], x, y) >= 0) {
+          best = cur;
+          cur = right[cur];
+        }
+        else
+          cur = left[cur];
+      }
+      return best;
+    }
+
+    //Nearest edge strictly to the right of point (x,y), or -1.
+    public int rightOf(double x, double y) {
+      int cur = root, best = NONE;
+      while(cur != NONE) {
+        if(Predicates.orientation(top_x[cur], top_y[cur], bot_x[cur], bot_y[cur], x, y) < 0) {
+          best = cur;
+          cur = left[cur];
+        }
+        else
+          cur = right[cur];
+      }
+      return best;
+    }
+
+    //Neighbours of status edge e in left to right order, or -1, found through
+    //the parent links like remove().
+    public int previous(int e) {
+      if(left[e] != NONE) {
+        e = left[e];
+        while(right[e] != NONE)
+          e = right[e];
+        return e;
+      }
+      while(parent[e] != NONE && left[parent[e]] == e)
+        e = parent[e];
+      return parent[e];
+    }
+
+    public int next(int e) {
+      if(right[e] != NONE) {
+        e = right[e];
+        while(left[e] != NONE)
+          e = left[e];
+        return e;
+      }
+      while(parent[e] != NONE && right[parent[e]] == e)
+        e = parent[e];
+      return parent[e];
+    }
+
+    //x coordinate where edge e crosses the horizontal line at height y.
+    public double xAt(int e, double y) {
+      return top_x[e] + dxdy[e]*(y - top_y[e]);
+    }
+
+    //Whether edge e belongs to the right of status edge cur. Both cross the
+    //sweep line and e starts on it; if it starts on cur as well, the side
+    //its lower end falls on decides.
+    private boolean rightOf(int cur, int e) {
+      int side = Predicates.orientation(top_x[cur], top_y[cur], bot_x[cur], bot_y[cur], top_x[e], top_y[e]);
+      if(side == 0)
+        side = Predicates.orientation(top_x[cur], top_y[cur], bot_x[cur], bot_y[cur], bot_x[e], bot_y[e]);
+      return side > 0;
+    }
+
+    private void rotateUp(int x) {
+      int p = parent[x], g = parent[p];
+      if(left[p] == x) {
+        left[p] = right[x];
+        if(right[x] != NONE)
+          parent[right[x]] = p;
+        right[x] = p;
+      }
+      else {
+        right[p] = left[x];
+        if(left[x] != NONE)
+          parent[left[x]] = p;
+        left[x] = p;
+      }
+      parent[p] = x;
+      parent[x] = g;
+      if(g == NONE)
+        root = x;
+      else if(left[g] == p)
+        left[g] = x;
+      else
+        right[g] = x;
+    }
+
+    private void allocate(int capacity) {
+      int old = (present == null) ? 0 : present.length;
+      if(old == 0) {
+        top_x = new double[capacity];
+        top_y = new double[capacity];
+        bot_x = new double[capacity];
+        bot_y = new double[capacity];
+        dxdy = new double[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        priority = new int[capacity];
+        present = new boolean[capacity];
+      }
+      else {
+        top_x = Arrays.copyOf(top_x, capacity);
+        top_y = Arrays.copyOf(top_y, capacity);
+        bot_x = Arrays.copyOf(bot_x, capacity);
+        bot_y = Arrays.copyOf(bot_y, capacity);
+        dxdy = Arrays.copyOf(dxdy, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        present = Arrays.copyOf(present, capacity);
+      }
+      //fixed pseudo random priorities keep the tree shape reproducible
+      for(int k = old; k < capacity; k++)
+        priority[k] = mix(k);
+    }
+
+    private static int mix(int k) {
+      int h = k * 0x9E3779B9;
+      h ^= h >>> 16;
+      h *= 0x85EBCA6B;
+      h ^= h >>> 13;
+      return h;
+    }
+}
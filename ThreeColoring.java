@@ -6,9 +6,25 @@ import java.util.*;
 
 public class ThreeColoring {
   private TreeMap<Integer,Integer> id_to_index;
+  private int conflicts;
+
+  //Triangles whose corners did not get three different colors in the last
+  //call. A triangulation with holes need not be 3-colorable, so only hole
+  //input can make this nonzero. While it is zero every triangle holds each
+  //color once and any color class guards the whole polygon (Fisk); otherwise
+  //the smallest color class may leave parts unseen, and guards for such
+  //input should come from CameraPlacement instead.
+  public int conflicts() {
+    return this.conflicts;
+  }
+
+  public boolean isProper() {
+    return this.conflicts == 0;
+  }
+
   public TreeMap<Integer,Integer> threeColor(ArrayList<DoublyConnectedEdgeList> triangulation, ArrayList<Vertex> vertices) {
     for(DoublyConnectedEdgeList dcel: triangulation) {
-      assert dcel.node_count() == 3;
+      assert dcel.rep_edge().next().next().next() == dcel.rep_edge();
     }
     id_to_index = new TreeMap<Integer,Integer>();
 
@@ -24,6 +40,18 @@ public class ThreeColoring {
 
     DFS(dualGraph, triangulation, nodeColor, visited);
 
+    conflicts = 0;
+    for(DoublyConnectedEdgeList dcel: triangulation) {
+      int[] used = {0};
+      dcel.forEachVertex((nodeId, x, y) -> {
+        Integer c = nodeColor.get(nodeId);
+        if(c != null)
+          used[0] |= 1 << c;
+      });
+      if(Integer.bitCount(used[0]) < 3)
+        conflicts++;
+    }
+
     // //Debug
     // for(int id : nodeColor.keySet())
     //   System.out.printf("nodeColor %d: %d\n",id,nodeColor.get(id));
@@ -34,15 +62,8 @@ public class ThreeColoring {
   public void DFS(DualGraph dualGraph, ArrayList<DoublyConnectedEdgeList> triangulation, TreeMap<Integer,Integer> nodeColor, TreeMap<Integer,Boolean> visited) {
     int src = triangulation.get(0).id();
     DoublyConnectedEdgeList dcel = triangulation.get(0);
-    DoublyConnectedEdgeList.DCEL_Edge tempEdge = dcel.rep_edge();
-    for(int i = 0; i < 3; i++) {
-      nodeColor.put(tempEdge.origin().id(),i);
-
-      // //Debug
-      // System.out.printf("Node %d is being colored\n",tempEdge.origin().id());
-
-      tempEdge = tempEdge.next();
-    }
+    int[] nextColor = {0};
+    dcel.forEachVertex((nodeId, x, y) -> nodeColor.put(nodeId, nextColor[0]++));
 
     // //Debug
     // System.out.printf("Starting DFS from triangle index 0 and id %d\n",src);
@@ -57,26 +78,17 @@ public class ThreeColoring {
   public void DFSUtil(DualGraph dualGraph, ArrayList<DoublyConnectedEdgeList> triangulation, TreeMap<Integer,Integer> nodeColor, int src, TreeMap<Integer,Boolean> visited) {
     //System.out.printf("In DFS, at node with index %d and id %d\n",id_to_index.get(src),src);
     DoublyConnectedEdgeList dcel = triangulation.get(id_to_index.get(src));
-    DoublyConnectedEdgeList.DCEL_Edge tempEdge = dcel.rep_edge();
-    int color = 0;
-    for(int i = 0; i < 3; i++) {
-      if(nodeColor.containsKey(tempEdge.origin().id())) {
-        color += nodeColor.get(tempEdge.origin().id());
-
-        // //Debug
-        // System.out.printf("Found color: %d for the node: %d\n", nodeColor.get(tempEdge.origin().id()), tempEdge.origin().id());
-      }
-      tempEdge = tempEdge.next();
-    }
-
-    for(int i = 0; i < 3; i++) {
-      //System.out.printf("Trying to color Node %d which is origin of %d\n",tempEdge.origin().id(),tempEdge.id());
-      if(!nodeColor.containsKey(tempEdge.origin().id())) {
-        //System.out.printf("Assigned color: %d to node: %d\n", color%3,tempEdge.origin().id());
-        nodeColor.put(tempEdge.origin().id(),(3-color)%3);
-      }
-      tempEdge = tempEdge.next();
-    }
+    int[] used = {0};
+    dcel.forEachVertex((nodeId, x, y) -> {
+      Integer c = nodeColor.get(nodeId);
+      if(c != null)
+        used[0] |= 1 << c;
+    });
+
+    //the one uncolored corner takes the color its two neighbours left free.
+    //Around a hole the dual graph has cycles and the two may already share a
+    //color; the lowest free one is taken then, and that corner clashes.
+    dcel.forEachVertex((nodeId, x, y) -> nodeColor.putIfAbsent(nodeId, Integer.numberOfTrailingZeros(~used[0])));
     visited.put(src,true);
     for(int k: dualGraph.getAdjacencyList().get(src)) {
       if(!visited.get(k))
@@ -85,4 +97,59 @@ public class ThreeColoring {
     //System.out.printf("returning from DFS at node with index %d and id %d\n",id_to_index.get(src),src);
 
   }
+
+  //Colors of an indexed mesh, by vertex position.
+  public int[] threeColor(TriangleMesh mesh) {
+    return threeColor(mesh.triangles(), mesh.neighbors(), mesh.vertexCount());
+  }
+
+  //3-colors the nodes of a packed triangulation by walking its dual graph
+  //breadth first. Returns the color of every node, -1 for nodes not on any
+  //triangle.
+  public int[] threeColor(int[] triangles, int[] neighbors, int vertexCount) {
+    int[] color = new int[vertexCount];
+    Arrays.fill(color, -1);
+    int triangleCount = triangles.length / 3;
+    conflicts = 0;
+    if(triangleCount == 0)
+      return color;
+
+    boolean[] visited = new boolean[triangleCount];
+    int[] queue = new int[triangleCount];
+    int head = 0, tail = 0;
+    for(int i = 0; i < 3; i++)
+      color[triangles[i]] = i;
+    visited[0] = true;
+    queue[tail++] = 0;
+
+    while(head < tail) {
+      int t = queue[head++];
+      int used = 0;
+      for(int i = 0; i < 3; i++) {
+        if(color[triangles[3*t+i]] >= 0)
+          used |= 1 << color[triangles[3*t+i]];
+      }
+      //lowest free color; only differs from 3 minus the sum of the other two
+      //when cycles of the dual graph around holes make those two equal
+      for(int i = 0; i < 3; i++) {
+        if(color[triangles[3*t+i]] < 0) {
+          color[triangles[3*t+i]] = Integer.numberOfTrailingZeros(~used);
+          used |= 1 << color[triangles[3*t+i]];
+        }
+      }
+      for(int i = 0; i < 3; i++) {
+        int k = neighbors[3*t+i];
+        if(k >= 0 && !visited[k]) {
+          visited[k] = true;
+          queue[tail++] = k;
+        }
+      }
+    }
+    for(int t = 0; t < triangleCount; t++) {
+      int a = color[triangles[3*t]], b = color[triangles[3*t+1]], c = color[triangles[3*t+2]];
+      if(a == b || b == c || a == c)
+        conflicts++;
+    }
+    return color;
+  }
 }
@@ -0,0 +1,140 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// TriangleMesh.java - This file contains the indexed form of a triangulation:
+// the polygon's vertices once, and every triangle as three positions into
+// them, packed in an int array. With the dual graph links that is 24 bytes
+// per triangle, instead of a DCEL with its own nodes and edges per triangle.
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class TriangleMesh {
+
+    private final double[] xs, ys;
+    private final int[] labels;     //Vertex.index() of every position
+    private final int[] triangles;  //corners of triangle t at 3t..3t+2, counter clockwise
+    private int[] neighbors;        //triangle across the edge from corner k to k+1, or -1; built on first use
+
+    //The arrays are taken as they are, not copied. neighbors may be null.
+    public TriangleMesh(double[] xs, double[] ys, int[] labels, int[] triangles, int[] neighbors) {
+      this.xs = xs;
+      this.ys = ys;
+      this.labels = labels;
+      this.triangles = triangles;
+      this.neighbors = neighbors;
+    }
+
+    //Triangles of the array backed pipeline, as the triangulate methods return them.
+    public static TriangleMesh of(ArrayDoublyConnectedEdgeList mesh, int[] triangles) {
+      int n = mesh.nodeCount();
+      double[] xs = new double[n], ys = new double[n];
+      int[] labels = new int[n];
+      for(int v = 0; v < n; v++) {
+        xs[v] = mesh.x(v);
+        ys[v] = mesh.y(v);
+        labels[v] = mesh.index(v);
+      }
+      return new TriangleMesh(xs, ys, labels, triangles, null);
+    }
+
+    //Triangles of the pointer pipeline, in list order. Corners are matched to
+    //the polygon vertices by their label, like MeshSnapshot does.
+    public static TriangleMesh of(ArrayList<Vertex> vertices, ArrayList<DoublyConnectedEdgeList> triangulation) {
+      int n = vertices.size();
+      double[] xs = new double[n], ys = new double[n];
+      int[] labels = new int[n];
+      HashMap<Integer, Integer> position = new HashMap<Integer, Integer>();
+      for(int v = 0; v < n; v++) {
+        xs[v] = vertices.get(v).x();
+        ys[v] = vertices.get(v).y();
+        labels[v] = vertices.get(v).index();
+        position.put(labels[v], v);
+      }
+
+      int[] corners = new int[3*triangulation.size()];
+      int[] slot = new int[1];
+      for(DoublyConnectedEdgeList triangle: triangulation)
+        triangle.forEachVertex((nodeId, x, y) -> corners[slot[0]++] = position.get(nodeId));
+      return new TriangleMesh(xs, ys, labels, corners, null);
+    }
+
+    public static TriangleMesh of(MeshSnapshot snapshot) {
+      int n = snapshot.nodeCount();
+      double[] xs = new double[n], ys = new double[n];
+      int[] labels = new int[n];
+      for(int v = 0; v < n; v++) {
+        xs[v] = snapshot.x(v);
+        ys[v] = snapshot.y(v);
+        labels[v] = snapshot.label(v);
+      }
+      return new TriangleMesh(xs, ys, labels, snapshot.triangles(), snapshot.neighbors());
+    }
+
+    //Another triangulation of the same vertices, sharing their arrays.
+    public TriangleMesh withTriangles(int[] triangles, int[] neighbors) {
+      return new TriangleMesh(xs, ys, labels, triangles, neighbors);
+    }
+
+    public int vertexCount() {
+      return this.xs.length;
+    }
+
+    public double x(int v) {
+      return this.xs[v];
+    }
+
+    public double y(int v) {
+      return this.ys[v];
+    }
+
+    public int label(int v) {
+      return this.labels[v];
+    }
+
+    public int triangleCount() {
+      return this.triangles.length / 3;
+    }
+
+    public int corner(int t, int k) {
+      return this.triangles[3*t + k];
+    }
+
+    //Triangle across the edge from corner k to corner k+1 of t, or -1.
+    public int neighbor(int t, int k) {
+      return neighbors()[3*t + k];
+    }
+
+    //The packed arrays themselves, in the form DualGraph and ThreeColoring
+    //take; callers must not change them.
+    public int[] triangles() {
+      return this.triangles;
+    }
+
+    public int[] neighbors() {
+      if(this.neighbors == null) {
+        DualGraph dualGraph = new DualGraph(triangles, vertexCount());
+        dualGraph.construct();
+        this.neighbors = dualGraph.getNeighbors();
+      }
+      return this.neighbors;
+    }
+
+    public double centroidX(int t) {
+      return (xs[corner(t, 0)] + xs[corner(t, 1)] + xs[corner(t, 2)]) / 3;
+    }
+
+    public double centroidY(int t) {
+      return (ys[corner(t, 0)] + ys[corner(t, 1)] + ys[corner(t, 2)]) / 3;
+    }
+
+    //Polygon vertices in stored order with their labels, for the canvases.
+    public ArrayList<Vertex> vertices() {
+      ArrayList<Vertex> out = new ArrayList<Vertex>(xs.length);
+      for(int v = 0; v < xs.length; v++) {
+        Vertex vertex = new Vertex(xs[v], ys[v]);
+        vertex.setIndex(labels[v]);
+        out.add(vertex);
+      }
+      return out;
+    }
+}
@@ -0,0 +1,93 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// TriangulationBenchmark.java - This file contains a command line benchmark
+// for the triangulation of a single monotone piece, on both DCEL classes. The
+// piece is already monotone, so no partition runs, and a linear time
+// triangulation shows a flat cost per vertex as the piece grows.
+//
+// Usage: java TriangulationBenchmark [n ...]   (default 1000 10000 100000 1000000)
+
+import java.util.ArrayList;
+import java.util.Random;
+
+public class TriangulationBenchmark {
+    private static final int WARMUP = 2;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        int[] sizes = {1000, 10000, 100000, 1000000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++)
+                sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("%10s %14s %14s %14s %14s%n", "vertices", "pointer ms", "ns/vertex", "array ms", "ns/vertex");
+        for (int n : sizes) {
+            double[][] piece = monotonePiece(n, n);
+            double pointer = timePointer(piece, n);
+            double array = timeArray(piece, n);
+            System.out.printf("%10d %14.1f %14.1f %14.1f %14.1f%n", n, pointer, pointer * 1e6 / n, array, array * 1e6 / n);
+        }
+    }
+
+    //Median time over RUNS triangulations of a fresh pointer DCEL, including
+    //building the triangle DCELs the pipeline hands on.
+    private static double timePointer(double[][] piece, int n) {
+        double[] ms = new double[RUNS];
+        for (int run = -WARMUP; run < RUNS; run++) {
+            ArrayList<Vertex> vertices = new ArrayList<Vertex>(n);
+            for (int i = 0; i < n; i++) {
+                Vertex v = new Vertex(piece[0][i], piece[1][i]);
+                v.setIndex(i + 1);
+                vertices.add(v);
+            }
+            ArrayList<DoublyConnectedEdgeList> pieces = new ArrayList<DoublyConnectedEdgeList>();
+            pieces.add(new DoublyConnectedEdgeList(vertices));
+            MonotoneTriangulation triangulation = new MonotoneTriangulation(pieces);
+            long start = System.nanoTime();
+            triangulation.triangulateMonotonePolygon();
+            long end = System.nanoTime();
+            if (run >= 0)
+                ms[run] = (end - start) / 1e6;
+        }
+        java.util.Arrays.sort(ms);
+        return ms[RUNS / 2];
+    }
+
+    private static double timeArray(double[][] piece, int n) {
+        double[] ms = new double[RUNS];
+        for (int run = -WARMUP; run < RUNS; run++) {
+            ArrayDoublyConnectedEdgeList mesh = new ArrayDoublyConnectedEdgeList(piece[0], piece[1], n);
+            long start = System.nanoTime();
+            new MonotoneTriangulation().triangulateMonotonePolygon(mesh);
+            long end = System.nanoTime();
+            if (run >= 0)
+                ms[run] = (end - start) / 1e6;
+        }
+        java.util.Arrays.sort(ms);
+        return ms[RUNS / 2];
+    }
+
+    //A y-monotone piece, counter clockwise: down the left chain from the top,
+    //then up the right chain. Both chains zigzag in x, so about half the
+    //vertices are reflex and the stack of the triangulation keeps filling.
+    private static double[][] monotonePiece(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] xs = new double[n], ys = new double[n];
+        int left = (n - 2) / 2, right = n - 2 - left;
+        xs[0] = 0;
+        ys[0] = n;
+        for (int i = 1; i <= left; i++) {
+            xs[i] = -1000 - rand.nextDouble() * 900;
+            ys[i] = n - 2.0 * i * n / (n + 1) - rand.nextDouble();
+        }
+        xs[left + 1] = 0;
+        ys[left + 1] = -n;
+        for (int i = 1; i <= right; i++) {
+            xs[left + 1 + i] = 1000 + rand.nextDouble() * 900;
+            ys[left + 1 + i] = -n + 2.0 * i * n / (n + 1) + rand.nextDouble();
+        }
+        return new double[][] {xs, ys};
+    }
+}
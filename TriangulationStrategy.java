@@ -0,0 +1,62 @@
+// GroupID-19 (Komal 22113078_Dhruv 22114029_Himanshu Raheja22323023)
+// Date: October 18, 2026
+// TriangulationStrategy.java - This file contains the interface shared by the
+// triangulation engines. Every engine takes a whole simple polygon and returns
+// the triangles DualGraph, ThreeColoring and CameraPlacement consume, so the
+// engine can be picked per request by name or automatically by input size.
+
+import java.util.ArrayList;
+
+public interface TriangulationStrategy {
+
+    //Inputs smaller than this are ear clipped by forSize(); larger ones go
+    //through the monotone partition, whose O(n log n) bound holds on any input.
+    //Ear clipping degrades towards quadratic on spiky polygons, where every
+    //ear is a long sliver whose z-order window holds much of the ring.
+    int EAR_CLIPPING_LIMIT = 1000;
+
+    //Triangles of the polygon, one DCEL each, named from the polygon's
+    //IdContext like MonotoneTriangulation.triangulateMonotonePolygon().
+    ArrayList<DoublyConnectedEdgeList> triangulate(DoublyConnectedEdgeList polygon);
+
+    //Triangles of an array backed polygon packed as three node indices each,
+    //in counter clockwise order.
+    int[] triangulate(ArrayDoublyConnectedEdgeList mesh);
+
+    static TriangulationStrategy monotone() {
+      return new MonotoneTriangulation();
+    }
+
+    static TriangulationStrategy earClipping() {
+      return new EarClippingTriangulation();
+    }
+
+    //By vertex count alone. Ear clipping hands polygons with holes to the
+    //monotone engine itself; forPolygon() and forMesh() skip that detour.
+    static TriangulationStrategy forSize(int n) {
+      return (n < EAR_CLIPPING_LIMIT) ? earClipping() : monotone();
+    }
+
+    //Holes always go to the monotone engine, the only one that bridges them.
+    static TriangulationStrategy forPolygon(DoublyConnectedEdgeList polygon) {
+      return polygon.holes().isEmpty() ? forSize(polygon.faceSize()) : monotone();
+    }
+
+    static TriangulationStrategy forMesh(ArrayDoublyConnectedEdgeList mesh) {
+      return (mesh.ringCount() == 1) ? forSize(mesh.nodeCount()) : monotone();
+    }
+
+    //"monotone", "ear" or "auto"; auto picks by the vertex count n.
+    static TriangulationStrategy forName(String name, int n) {
+      switch(name.toLowerCase()) {
+        case "monotone":
+          return monotone();
+        case "ear":
+          return earClipping();
+        case "auto":
+          return forSize(n);
+        default:
+          throw new IllegalArgumentException("Unknown triangulation engine: " + name);
+      }
+    }
+}